@@ -0,0 +1,79 @@
+package dev.cassis2310.falloutmc.items;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ItemWeightRegistry#weightOf(Item)} with the {@code HashMap<Item, Double>} it replaced.
+ *
+ * <p>Both hold a weight for every vanilla item, and are read for the same random items, so the results
+ * are the time of a single lookup.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ItemWeightRegistryBenchmark
+{
+    private static final int LOOKUPS = 1024;
+
+    private final Map<Item, Double> map = new HashMap<>();
+    private final Item[] items = new Item[LOOKUPS];
+
+    @Setup
+    public void setup()
+    {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        ItemWeightRegistry.rebuild(BuiltInRegistries.ITEM);
+        for (Item item : BuiltInRegistries.ITEM)
+        {
+            map.put(item, ItemWeightRegistry.weightOf(item));
+        }
+
+        final Random random = new Random(0);
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            items[i] = BuiltInRegistries.ITEM.byId(random.nextInt(BuiltInRegistries.ITEM.size()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public double table()
+    {
+        double total = 0;
+        for (Item item : items)
+        {
+            total += ItemWeightRegistry.weightOf(item);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public double map()
+    {
+        double total = 0;
+        for (Item item : items)
+        {
+            total += map.getOrDefault(item, 0.0);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,114 @@
+package dev.cassis2310.falloutmc.utils.helpers;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import net.minecraft.util.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sampling helpers of {@link RandomHelpers} and {@link MappingHelpers} with the helpers they
+ * replaced, copied below as the {@code legacy} methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class SamplingBenchmark
+{
+    private static final int SAMPLE = 8;
+
+    @Param({"16", "256", "4096"})
+    private int size;
+
+    private final RandomSource random = RandomSource.create(0);
+    private List<Integer> list;
+    private Map<Integer, Integer> hashMap;
+    private Map<Integer, Integer> immutableMap;
+    private List<Integer> indexedValues;
+
+    @Setup
+    public void setup()
+    {
+        list = new ArrayList<>(size);
+        hashMap = new HashMap<>(size);
+        for (int i = 0; i < size; i++)
+        {
+            list.add(i);
+            hashMap.put(i, i);
+        }
+        immutableMap = ImmutableMap.copyOf(hashMap);
+        indexedValues = MappingHelpers.indexValues(hashMap);
+    }
+
+    @Benchmark
+    public List<Integer> legacyUniqueRandomSample()
+    {
+        return legacyUniqueRandomSample(list, SAMPLE, random);
+    }
+
+    @Benchmark
+    public List<Integer> uniqueRandomSample()
+    {
+        return RandomHelpers.uniqueRandomSample(list, SAMPLE, random);
+    }
+
+    @Benchmark
+    public List<Integer> reservoirSample()
+    {
+        return RandomHelpers.reservoirSample(list.iterator(), SAMPLE, random);
+    }
+
+    @Benchmark
+    public Integer legacyGetRandomValue()
+    {
+        return legacyGetRandomValue(hashMap, random);
+    }
+
+    @Benchmark
+    public Integer getRandomValueFromHashMap()
+    {
+        return MappingHelpers.getRandomValue(hashMap, random);
+    }
+
+    @Benchmark
+    public Integer getRandomValueFromImmutableMap()
+    {
+        return MappingHelpers.getRandomValue(immutableMap, random);
+    }
+
+    @Benchmark
+    public Integer getRandomElementFromIndexedValues()
+    {
+        return RandomHelpers.getRandomElement(indexedValues, random);
+    }
+
+    // RandomHelpers.uniqueRandomSample before it stopped shuffling the list in place
+    private static <T> List<T> legacyUniqueRandomSample(List<T> list, int n, RandomSource r)
+    {
+        final int length = list.size();
+        for (int i = length - 1; i >= length - n; i--)
+        {
+            Collections.swap(list, i, r.nextInt(i + 1));
+        }
+        return list.subList(length - n, length);
+    }
+
+    // MappingHelpers.getRandomValue before it picked from immutable maps in constant time
+    private static <K, V> V legacyGetRandomValue(Map<K, V> map, RandomSource random)
+    {
+        return Iterators.get(map.values().iterator(), random.nextInt(map.size()));
+    }
+}
@@ -37,6 +37,26 @@ public class Config
             .comment("List of item names to log during common setup.")
             .defineListAllowEmpty("items", List.of("minecraft:iron_ingot"), Config::validateItemName);
 
+    private static final ModConfigSpec.IntValue RADIATION_UPDATES_PER_TICK = BUILDER
+            .comment("The maximum number of blocks the radiation field is updated for per level and tick. Updates beyond it wait for the next tick.")
+            .defineInRange("radiationUpdatesPerTick", 8192, 64, Integer.MAX_VALUE);
+
+    private static final ModConfigSpec.IntValue SURVIVAL_TICK_INTERVAL = BUILDER
+            .comment("The number of ticks between two updates of the radiation, hunger and thirst of an entity. Entities are spread evenly over these ticks.")
+            .defineInRange("survivalTickInterval", 20, 1, 1200);
+
+    private static final ModConfigSpec.IntValue SURVIVAL_SYNC_INTERVAL = BUILDER
+            .comment("The minimum number of ticks between two syncs of gradual changes to the survival stats of a player, such as radiation from a rad zone. Changes from consuming items are synced on the next tick.")
+            .defineInRange("survivalSyncInterval", 20, 1, 1200);
+
+    private static final ModConfigSpec.IntValue LOOT_RESPAWN_TICKS = BUILDER
+            .comment("The number of ticks after which an emptied loot container rolls new loot when next opened. 0 disables respawning.")
+            .defineInRange("lootRespawnTicks", 72000, 0, Integer.MAX_VALUE);
+
+    private static final ModConfigSpec.IntValue FIRE_SPREAD_ATTEMPTS_PER_TICK = BUILDER
+            .comment("The maximum number of fire spread attempts processed per level and tick. Attempts beyond it wait for the next tick.")
+            .defineInRange("fireSpreadAttemptsPerTick", 256, 1, Integer.MAX_VALUE);
+
     // Build the configuration specification
     static final ModConfigSpec SPEC = BUILDER.build();
 
@@ -45,6 +65,11 @@ public class Config
     public static int magicNumber;
     public static String magicNumberIntroduction;
     public static Set<Item> items;
+    public static int radiationUpdatesPerTick = 8192;
+    public static int survivalTickInterval = 20;
+    public static int survivalSyncInterval = 20;
+    public static int lootRespawnTicks = 72000;
+    public static int fireSpreadAttemptsPerTick = 256;
 
     /**
      * Validates that each item name provided is a valid resource location.
@@ -65,6 +90,11 @@ public class Config
         logDirtBlock = LOG_DIRT_BLOCK.get();
         magicNumber = MAGIC_NUMBER.get();
         magicNumberIntroduction = MAGIC_NUMBER_INTRODUCTION.get();
+        radiationUpdatesPerTick = RADIATION_UPDATES_PER_TICK.get();
+        survivalTickInterval = SURVIVAL_TICK_INTERVAL.get();
+        survivalSyncInterval = SURVIVAL_SYNC_INTERVAL.get();
+        lootRespawnTicks = LOOT_RESPAWN_TICKS.get();
+        fireSpreadAttemptsPerTick = FIRE_SPREAD_ATTEMPTS_PER_TICK.get();
 
         // Convert a list of item names to a set of Item objects
         items = ITEM_STRINGS.get().stream()
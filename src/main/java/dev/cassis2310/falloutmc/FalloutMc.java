@@ -1,7 +1,11 @@
 package dev.cassis2310.falloutmc;
 
 import dev.cassis2310.falloutmc.Entities.FalloutMcEntities;
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import dev.cassis2310.falloutmc.client.ClientVats;
+import dev.cassis2310.falloutmc.client.SurvivalHud;
 import dev.cassis2310.falloutmc.blocks.FalloutMcBlocks;
+import dev.cassis2310.falloutmc.blocks.entity.FalloutMcBlockEntities;
 import dev.cassis2310.falloutmc.components.FalloutMcDataComponents;
 import dev.cassis2310.falloutmc.effects.FalloutMcEffects;
 import dev.cassis2310.falloutmc.items.FalloutMcCreativeModeTabs;
@@ -9,6 +13,9 @@ import dev.cassis2310.falloutmc.items.FalloutMcItems;
 import dev.cassis2310.falloutmc.utils.ValidationSuite;
 import dev.cassis2310.falloutmc.utils.helpers.ExceptionHelpers;
 
+import net.neoforged.neoforge.client.event.RegisterGuiLayersEvent;
+import net.neoforged.neoforge.client.event.RegisterKeyMappingsEvent;
+import net.neoforged.neoforge.client.gui.VanillaGuiLayers;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.fml.event.lifecycle.FMLLoadCompleteEvent;
 import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
@@ -29,6 +36,8 @@ import org.slf4j.Logger;
 import com.mojang.logging.LogUtils;
 import org.jetbrains.annotations.Nullable;
 
+import static dev.cassis2310.falloutmc.utils.helpers.ResourceHelpers.falloutMcResource;
+
 // The value here should match an entry in the META-INF/neoforge.mods.toml file
 @Mod(FalloutMc.MOD_ID)
 public class FalloutMc
@@ -78,8 +87,10 @@ public class FalloutMc
         // Register your items, blocks, entities, and so on
         FalloutMcItems.register(bus);
         FalloutMcBlocks.register(bus);
+        FalloutMcBlockEntities.register(bus);
         FalloutMcEntities.register(bus);
         FalloutMcDataComponents.register(bus);
+        FalloutMcAttachments.register(bus);
         FalloutMcCreativeModeTabs.register(bus);
         FalloutMcEffects.register(bus);
 
@@ -140,6 +151,18 @@ public class FalloutMc
             LOGGER.info("[{}]: Performing client setup", MOD_NAME);
             // Some client setup code
         }
+
+        @SubscribeEvent
+        public static void onRegisterGuiLayers(RegisterGuiLayersEvent event)
+        {
+            event.registerAbove(VanillaGuiLayers.HOTBAR, falloutMcResource("survival_hud"), new SurvivalHud());
+        }
+
+        @SubscribeEvent
+        public static void onRegisterKeyMappings(RegisterKeyMappingsEvent event)
+        {
+            event.register(ClientVats.KEY);
+        }
     }
 
     @SuppressWarnings({"AssertWithSideEffects", "ConstantConditions"})
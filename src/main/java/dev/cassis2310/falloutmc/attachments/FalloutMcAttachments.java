@@ -0,0 +1,121 @@
+package dev.cassis2310.falloutmc.attachments;
+
+import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.effects.EffectScheduler;
+import dev.cassis2310.falloutmc.effects.EffectTimers;
+import dev.cassis2310.falloutmc.fire.FireSpreader;
+import dev.cassis2310.falloutmc.items.CarryWeightLedger;
+import dev.cassis2310.falloutmc.radiation.ChunkRadiation;
+import dev.cassis2310.falloutmc.radiation.EntitySourceTracker;
+import dev.cassis2310.falloutmc.radiation.RadiationPropagator;
+import dev.cassis2310.falloutmc.survival.Addictions;
+import dev.cassis2310.falloutmc.survival.SurvivalScheduler;
+import dev.cassis2310.falloutmc.survival.SurvivalStats;
+import dev.cassis2310.falloutmc.vats.VatsSession;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.attachment.AttachmentType;
+import net.neoforged.neoforge.registries.DeferredRegister;
+import net.neoforged.neoforge.registries.NeoForgeRegistries;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@code FalloutMcAttachments} class is responsible for registering the
+ * {@link AttachmentType} instances used by the FalloutMc mod. Data attachments
+ * store additional state on entities, chunks and levels.
+ * <p>
+ * It utilizes the {@link DeferredRegister} to ensure that attachment types are
+ * registered correctly within the mod's lifecycle.
+ * </p>
+ *
+ * @see AttachmentType
+ * @see DeferredRegister
+ */
+public class FalloutMcAttachments
+{
+    /**
+     * The deferred registry for AttachmentType objects in FalloutMc mod.
+     */
+    public static final DeferredRegister<AttachmentType<?>> ATTACHMENT_TYPES = DeferredRegister.create(NeoForgeRegistries.Keys.ATTACHMENT_TYPES, FalloutMc.MOD_ID);
+
+    /**
+     * The per-player carry weight ledger. It is rebuilt from slot changes and therefore never serialized.
+     */
+    public static final Supplier<AttachmentType<CarryWeightLedger>> CARRY_WEIGHT = ATTACHMENT_TYPES.register("carry_weight",
+            () -> AttachmentType.builder(() -> new CarryWeightLedger()).build());
+
+    /**
+     * The radiation field of a chunk, saved with the chunk.
+     */
+    public static final Supplier<AttachmentType<ChunkRadiation>> CHUNK_RADIATION = ATTACHMENT_TYPES.register("chunk_radiation",
+            () -> AttachmentType.serializable(() -> new ChunkRadiation()).build());
+
+    /**
+     * The radiation emitted by the entities of a level, summed per section. Entities are tracked again as
+     * they load, so it is never serialized.
+     */
+    public static final Supplier<AttachmentType<EntitySourceTracker>> ENTITY_RADIATION_SOURCES = ATTACHMENT_TYPES.register("entity_radiation_sources",
+            () -> AttachmentType.builder(() -> new EntitySourceTracker()).build());
+
+    /**
+     * The pending radiation updates of a level. Updates still queued when the level unloads are lost.
+     */
+    public static final Supplier<AttachmentType<RadiationPropagator>> RADIATION_PROPAGATOR = ATTACHMENT_TYPES.register("radiation_propagator",
+            () -> AttachmentType.builder(() -> new RadiationPropagator()).build());
+
+    /**
+     * The radiation, hunger and thirst of a living entity, saved with the entity. Dying clears them.
+     */
+    public static final Supplier<AttachmentType<SurvivalStats>> SURVIVAL_STATS = ATTACHMENT_TYPES.register("survival_stats",
+            () -> AttachmentType.serializable(() -> new SurvivalStats()).build());
+
+    /**
+     * The living entities of a level, bucketed for survival stat integration. Entities are added again as
+     * they load, so it is never serialized.
+     */
+    public static final Supplier<AttachmentType<SurvivalScheduler>> SURVIVAL_SCHEDULER = ATTACHMENT_TYPES.register("survival_scheduler",
+            () -> AttachmentType.builder(() -> new SurvivalScheduler()).build());
+
+    /**
+     * The timed effects of a living entity, saved with the entity.
+     */
+    public static final Supplier<AttachmentType<EffectTimers>> EFFECT_TIMERS = ATTACHMENT_TYPES.register("effect_timers",
+            () -> AttachmentType.serializable(holder -> new EffectTimers(holder)).build());
+
+    /**
+     * The timed effects of the entities of a level, scheduled by their end. Entities are scheduled again as
+     * they load, so it is never serialized.
+     */
+    public static final Supplier<AttachmentType<EffectScheduler>> EFFECT_SCHEDULER = ATTACHMENT_TYPES.register("effect_scheduler",
+            () -> AttachmentType.builder(() -> new EffectScheduler()).build());
+
+    /**
+     * The addictions of a player, saved with the player and kept on death.
+     */
+    public static final Supplier<AttachmentType<Addictions>> ADDICTIONS = ATTACHMENT_TYPES.register("addictions",
+            () -> AttachmentType.serializable(holder -> new Addictions(holder)).copyOnDeath().build());
+
+    /**
+     * The VATS targeting session of a player. Sessions only last seconds, so it is never serialized.
+     */
+    public static final Supplier<AttachmentType<VatsSession>> VATS_SESSION = ATTACHMENT_TYPES.register("vats_session",
+            () -> AttachmentType.builder(() -> new VatsSession()).build());
+
+    /**
+     * The pending fire spread attempts of a level. Attempts still queued when the level unloads are lost.
+     */
+    public static final Supplier<AttachmentType<FireSpreader>> FIRE_SPREADER = ATTACHMENT_TYPES.register("fire_spreader",
+            () -> AttachmentType.builder(() -> new FireSpreader()).build());
+
+    // Register all your attachment types here.
+
+    /**
+     * Registers the AttachmentTypes with the given event bus.
+     *
+     * @param bus the event bus to register with (typically the mod event bus)
+     */
+    public static void register(IEventBus bus)
+    {
+        ATTACHMENT_TYPES.register(bus);
+    }
+}
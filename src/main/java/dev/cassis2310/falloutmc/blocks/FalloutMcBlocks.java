@@ -1,7 +1,13 @@
 package dev.cassis2310.falloutmc.blocks;
 
 import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.blocks.custom.LootContainerBlock;
+import dev.cassis2310.falloutmc.items.FalloutMcItems;
+import dev.cassis2310.falloutmc.loot.LootContainerKind;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.SoundType;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.material.MapColor;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.neoforge.registries.DeferredBlock;
 import net.neoforged.neoforge.registries.DeferredRegister;
@@ -22,6 +28,31 @@ public class FalloutMcBlocks
 
     // Register all your blocks here.
 
+    /** A footlocker, holding clothes, ammunition and odds and ends when looted. */
+    public static final DeferredBlock<Block> FOOTLOCKER = registerLootContainer("footlocker", LootContainerKind.FOOTLOCKER, MapColor.COLOR_GREEN);
+
+    /** A toolbox, holding tools and scrap when looted. */
+    public static final DeferredBlock<Block> TOOLBOX = registerLootContainer("toolbox", LootContainerKind.TOOLBOX, MapColor.COLOR_RED);
+
+    /** A fridge, holding food and drinks when looted. */
+    public static final DeferredBlock<Block> FRIDGE = registerLootContainer("fridge", LootContainerKind.FRIDGE, MapColor.METAL);
+
+    /**
+     * Registers a loot container block and its block item.
+     *
+     * @param name     the name of the block
+     * @param kind     the kind of container, which decides its loot
+     * @param mapColor the map color of the block
+     * @return the registered block
+     */
+    private static DeferredBlock<Block> registerLootContainer(String name, LootContainerKind kind, MapColor mapColor)
+    {
+        final DeferredBlock<Block> block = BLOCKS.register(name, () -> new LootContainerBlock(kind,
+                BlockBehaviour.Properties.of().mapColor(mapColor).strength(2.5F).sound(SoundType.METAL).requiresCorrectToolForDrops()));
+        FalloutMcItems.ITEMS.registerSimpleBlockItem(block);
+        return block;
+    }
+
     /**
      * Registers the blocks with the provided event bus.
      *
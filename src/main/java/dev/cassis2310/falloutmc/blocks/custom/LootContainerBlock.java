@@ -0,0 +1,142 @@
+package dev.cassis2310.falloutmc.blocks.custom;
+
+import com.mojang.serialization.MapCodec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import dev.cassis2310.falloutmc.blocks.entity.LootContainerBlockEntity;
+import dev.cassis2310.falloutmc.loot.LootContainerKind;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.Containers;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.context.BlockPlaceContext;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.BaseEntityBlock;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.HorizontalDirectionalBlock;
+import net.minecraft.world.level.block.Mirror;
+import net.minecraft.world.level.block.RenderShape;
+import net.minecraft.world.level.block.Rotation;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.StateDefinition;
+import net.minecraft.world.level.block.state.properties.DirectionProperty;
+import net.minecraft.world.phys.BlockHitResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A wasteland container, such as a footlocker, toolbox or fridge, holding loot rolled when it is first
+ * opened. See {@link LootContainerBlockEntity}.
+ *
+ * <p>Containers placed in creative mode, by commands or by structure templates hold loot. Containers placed
+ * by players in survival mode are plain storage.</p>
+ */
+public class LootContainerBlock extends BaseEntityBlock
+{
+    public static final MapCodec<LootContainerBlock> CODEC = RecordCodecBuilder.mapCodec(instance -> instance.group(
+            LootContainerKind.CODEC.fieldOf("kind").forGetter(LootContainerBlock::getKind),
+            propertiesCodec()
+    ).apply(instance, LootContainerBlock::new));
+
+    public static final DirectionProperty FACING = HorizontalDirectionalBlock.FACING;
+
+    private final LootContainerKind kind;
+
+    /**
+     * Creates a new loot container block.
+     *
+     * @param kind       the kind of container, which decides its loot
+     * @param properties the block properties
+     */
+    public LootContainerBlock(LootContainerKind kind, Properties properties)
+    {
+        super(properties);
+        this.kind = kind;
+        registerDefaultState(stateDefinition.any().setValue(FACING, Direction.NORTH));
+    }
+
+    /**
+     * @return the kind of container, which decides its loot
+     */
+    public LootContainerKind getKind()
+    {
+        return kind;
+    }
+
+    @Override
+    protected @NotNull MapCodec<? extends BaseEntityBlock> codec()
+    {
+        return CODEC;
+    }
+
+    @Override
+    protected void createBlockStateDefinition(StateDefinition.Builder<Block, BlockState> builder)
+    {
+        builder.add(FACING);
+    }
+
+    @Override
+    public @Nullable BlockState getStateForPlacement(BlockPlaceContext context)
+    {
+        return defaultBlockState().setValue(FACING, context.getHorizontalDirection().getOpposite());
+    }
+
+    @Override
+    protected @NotNull BlockState rotate(BlockState state, Rotation rotation)
+    {
+        return state.setValue(FACING, rotation.rotate(state.getValue(FACING)));
+    }
+
+    @Override
+    protected @NotNull BlockState mirror(BlockState state, Mirror mirror)
+    {
+        return state.rotate(mirror.getRotation(state.getValue(FACING)));
+    }
+
+    @Override
+    protected @NotNull RenderShape getRenderShape(@NotNull BlockState state)
+    {
+        return RenderShape.MODEL;
+    }
+
+    @Override
+    public @Nullable BlockEntity newBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state)
+    {
+        return new LootContainerBlockEntity(pos, state);
+    }
+
+    @Override
+    protected @NotNull InteractionResult useWithoutItem(@NotNull BlockState state, Level level, @NotNull BlockPos pos, @NotNull Player player, @NotNull BlockHitResult hitResult)
+    {
+        if (level.isClientSide)
+        {
+            return InteractionResult.SUCCESS;
+        }
+        if (level.getBlockEntity(pos) instanceof LootContainerBlockEntity container)
+        {
+            player.openMenu(container);
+        }
+        return InteractionResult.CONSUME;
+    }
+
+    @Override
+    public void setPlacedBy(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, @Nullable LivingEntity placer, @NotNull ItemStack stack)
+    {
+        super.setPlacedBy(level, pos, state, placer, stack);
+        // Containers placed by survival players are storage, not loot. Map makers place loot containers in creative mode
+        if (placer instanceof Player player && !player.getAbilities().instabuild && level.getBlockEntity(pos) instanceof LootContainerBlockEntity container)
+        {
+            container.markPlacedByPlayer();
+        }
+    }
+
+    @Override
+    protected void onRemove(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState newState, boolean movedByPiston)
+    {
+        Containers.dropContentsOnDestroy(state, newState, level, pos);
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+}
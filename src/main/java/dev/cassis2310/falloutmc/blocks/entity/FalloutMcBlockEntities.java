@@ -0,0 +1,43 @@
+package dev.cassis2310.falloutmc.blocks.entity;
+
+import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.blocks.FalloutMcBlocks;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@code FalloutMcBlockEntities} class is responsible for registering
+ * all block entity types in the Fallout Minecraft mod.
+ * <p>
+ * It utilizes the {@link DeferredRegister} to manage block entity types and
+ * register them within the mod's namespace.
+ * </p>
+ */
+public class FalloutMcBlockEntities
+{
+    /** The {@link DeferredRegister} used to register block entity types. */
+    public static final DeferredRegister<BlockEntityType<?>> BLOCK_ENTITY_TYPES = DeferredRegister.create(Registries.BLOCK_ENTITY_TYPE, FalloutMc.MOD_ID);
+
+    /**
+     * The contents of every wasteland loot container.
+     */
+    public static final Supplier<BlockEntityType<LootContainerBlockEntity>> LOOT_CONTAINER = BLOCK_ENTITY_TYPES.register("loot_container",
+            () -> BlockEntityType.Builder.of(LootContainerBlockEntity::new,
+                    FalloutMcBlocks.FOOTLOCKER.get(), FalloutMcBlocks.TOOLBOX.get(), FalloutMcBlocks.FRIDGE.get()).build(null));
+
+    // Register all your block entity types here.
+
+    /**
+     * Registers the block entity types with the provided event bus.
+     *
+     * @param bus The event bus used for registering block entity types.
+     */
+    public static void register(IEventBus bus)
+    {
+        BLOCK_ENTITY_TYPES.register(bus);
+    }
+}
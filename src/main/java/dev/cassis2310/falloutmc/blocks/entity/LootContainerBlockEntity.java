@@ -0,0 +1,183 @@
+package dev.cassis2310.falloutmc.blocks.entity;
+
+import dev.cassis2310.falloutmc.Config;
+import dev.cassis2310.falloutmc.blocks.custom.LootContainerBlock;
+import dev.cassis2310.falloutmc.loot.ContainerLootTables;
+import dev.cassis2310.falloutmc.loot.LootContainerKind;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.NonNullList;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.ContainerHelper;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ChestMenu;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.entity.BaseContainerBlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The contents of a {@link LootContainerBlock}.
+ *
+ * <p>Loot is rolled lazily, the first time the contents are accessed, by a player opening the container or
+ * anything else reading its slots, so containers that are generated but never visited cost nothing. The
+ * game time of the roll is saved, and once {@link Config#lootRespawnTicks} have passed an emptied container
+ * rolls again on its next access. Nothing ticks in between.</p>
+ */
+public class LootContainerBlockEntity extends BaseContainerBlockEntity
+{
+    /** The number of slots of a container. */
+    public static final int SIZE = 27;
+
+    // The loot has never been rolled
+    private static final long NEVER = Long.MIN_VALUE;
+    // The container was placed by a player, and never holds loot
+    private static final long PLACED_BY_PLAYER = Long.MAX_VALUE;
+
+    private NonNullList<ItemStack> items = NonNullList.withSize(SIZE, ItemStack.EMPTY);
+    private long lootedAt = NEVER;
+
+    public LootContainerBlockEntity(BlockPos pos, BlockState state)
+    {
+        super(FalloutMcBlockEntities.LOOT_CONTAINER.get(), pos, state);
+    }
+
+    /**
+     * @return the kind of the container
+     */
+    public LootContainerKind getKind()
+    {
+        return getBlockState().getBlock() instanceof LootContainerBlock block ? block.getKind() : LootContainerKind.FOOTLOCKER;
+    }
+
+    /**
+     * Stops the container from ever rolling loot.
+     */
+    public void markPlacedByPlayer()
+    {
+        lootedAt = PLACED_BY_PLAYER;
+        setChanged();
+    }
+
+    /**
+     * Rolls the loot of the container if it never was, or if it was emptied and its respawn time has passed.
+     */
+    public void resolveLoot()
+    {
+        if (!(level instanceof ServerLevel) || lootedAt == PLACED_BY_PLAYER)
+        {
+            return;
+        }
+
+        final long now = level.getGameTime();
+        if (lootedAt != NEVER && (Config.lootRespawnTicks <= 0 || now - lootedAt < Config.lootRespawnTicks || !isContentsEmpty()))
+        {
+            return;
+        }
+        lootedAt = now;
+        ContainerLootTables.fill(getKind(), items, level.getRandom());
+        setChanged();
+    }
+
+    private boolean isContentsEmpty()
+    {
+        for (ItemStack stack : items)
+        {
+            if (!stack.isEmpty())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected @NotNull Component getDefaultName()
+    {
+        return getBlockState().getBlock().getName();
+    }
+
+    @Override
+    protected @NotNull NonNullList<ItemStack> getItems()
+    {
+        return items;
+    }
+
+    @Override
+    protected void setItems(@NotNull NonNullList<ItemStack> items)
+    {
+        this.items = items;
+    }
+
+    @Override
+    public int getContainerSize()
+    {
+        return SIZE;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        resolveLoot();
+        return super.isEmpty();
+    }
+
+    @Override
+    public @NotNull ItemStack getItem(int slot)
+    {
+        resolveLoot();
+        return super.getItem(slot);
+    }
+
+    @Override
+    public @NotNull ItemStack removeItem(int slot, int amount)
+    {
+        resolveLoot();
+        return super.removeItem(slot, amount);
+    }
+
+    @Override
+    public @NotNull ItemStack removeItemNoUpdate(int slot)
+    {
+        resolveLoot();
+        return super.removeItemNoUpdate(slot);
+    }
+
+    @Override
+    public void setItem(int slot, @NotNull ItemStack stack)
+    {
+        resolveLoot();
+        super.setItem(slot, stack);
+    }
+
+    @Override
+    protected @NotNull AbstractContainerMenu createMenu(int containerId, @NotNull Inventory inventory)
+    {
+        resolveLoot();
+        return ChestMenu.threeRows(containerId, inventory, this);
+    }
+
+    @Override
+    protected void saveAdditional(@NotNull CompoundTag tag, HolderLookup.@NotNull Provider registries)
+    {
+        super.saveAdditional(tag, registries);
+        ContainerHelper.saveAllItems(tag, items, registries);
+        if (lootedAt != NEVER)
+        {
+            tag.putLong("looted_at", lootedAt);
+        }
+    }
+
+    @Override
+    protected void loadAdditional(@NotNull CompoundTag tag, HolderLookup.@NotNull Provider registries)
+    {
+        super.loadAdditional(tag, registries);
+        items = NonNullList.withSize(SIZE, ItemStack.EMPTY);
+        ContainerHelper.loadAllItems(tag, items, registries);
+        lootedAt = tag.contains("looted_at", Tag.TAG_LONG) ? tag.getLong("looted_at") : NEVER;
+    }
+}
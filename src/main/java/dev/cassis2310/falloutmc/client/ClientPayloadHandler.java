@@ -0,0 +1,30 @@
+package dev.cassis2310.falloutmc.client;
+
+import dev.cassis2310.falloutmc.network.VatsTargetsPayload;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Handles the payloads whose handling needs client only classes.
+ *
+ * <p>Payload classes are loaded on both sides, so they only reference this class, which in turn is the only
+ * one referencing client code such as {@link ClientVats}. Its methods are never called on a dedicated
+ * server.</p>
+ */
+public class ClientPayloadHandler
+{
+    private ClientPayloadHandler()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Handles a {@link VatsTargetsPayload}.
+     *
+     * @param payload the payload
+     * @param context the payload context
+     */
+    public static void handleVatsTargets(VatsTargetsPayload payload, IPayloadContext context)
+    {
+        context.enqueueWork(() -> ClientVats.setTargets(payload.entityIds(), payload.chances()));
+    }
+}
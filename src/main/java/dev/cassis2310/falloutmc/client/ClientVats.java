@@ -0,0 +1,113 @@
+package dev.cassis2310.falloutmc.client;
+
+import com.mojang.blaze3d.platform.InputConstants;
+import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.network.VatsActivatePayload;
+import dev.cassis2310.falloutmc.network.VatsAttackPayload;
+import dev.cassis2310.falloutmc.utils.helpers.TranslationHelpers;
+import dev.cassis2310.falloutmc.vats.Vats;
+import net.minecraft.client.KeyMapping;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.Entity;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.lwjgl.glfw.GLFW;
+
+/**
+ * The client side of VATS: the key that activates it and attacks, and the targets of the running session.
+ *
+ * <p>The first press of the key activates VATS. While the session runs, each press attacks the target most
+ * likely to be hit that is still alive. The hit chances are computed by the server, see {@link Vats}.</p>
+ */
+public class ClientVats
+{
+    public static final KeyMapping KEY = new KeyMapping("key." + FalloutMc.MOD_ID + ".vats", InputConstants.Type.KEYSYM, GLFW.GLFW_KEY_V, "key.categories." + FalloutMc.MOD_ID);
+
+    private static int[] targets = new int[0];
+    private static float[] chances = new float[0];
+    private static long expiresAt = Long.MIN_VALUE;
+
+    private ClientVats()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Replaces the targets with those of a new session.
+     *
+     * @param entityIds the ids of the targets, most likely to be hit first
+     * @param hitChances the hit chance of each target
+     */
+    public static void setTargets(int[] entityIds, float[] hitChances)
+    {
+        final Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft.level == null)
+        {
+            return;
+        }
+
+        targets = entityIds;
+        chances = hitChances;
+        expiresAt = minecraft.level.getGameTime() + Vats.SESSION_TICKS;
+        showTarget(minecraft);
+    }
+
+    /**
+     * Handles presses of the VATS key. Called at the end of every client tick.
+     */
+    public static void onClientTick()
+    {
+        final Minecraft minecraft = Minecraft.getInstance();
+        while (KEY.consumeClick())
+        {
+            if (minecraft.level == null || minecraft.player == null)
+            {
+                continue;
+            }
+
+            final int target = bestTarget(minecraft);
+            if (minecraft.level.getGameTime() < expiresAt && target >= 0)
+            {
+                PacketDistributor.sendToServer(new VatsAttackPayload(targets[target]));
+            }
+            else
+            {
+                PacketDistributor.sendToServer(VatsActivatePayload.INSTANCE);
+            }
+        }
+    }
+
+    /**
+     * Forgets the session when leaving a world or server.
+     */
+    public static void reset()
+    {
+        targets = new int[0];
+        chances = new float[0];
+        expiresAt = Long.MIN_VALUE;
+    }
+
+    // The index of the target most likely to be hit that is still alive, or -1
+    private static int bestTarget(Minecraft minecraft)
+    {
+        for (int i = 0; i < targets.length; i++)
+        {
+            final Entity entity = minecraft.level.getEntity(targets[i]);
+            if (entity != null && entity.isAlive())
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void showTarget(Minecraft minecraft)
+    {
+        final int target = bestTarget(minecraft);
+        final Component message = target < 0
+                ? Component.translatable(TranslationHelpers.getHudTranslationKey("vats_no_target"))
+                : Component.translatable(TranslationHelpers.getHudTranslationKey("vats_target"),
+                        minecraft.level.getEntity(targets[target]).getDisplayName(), Math.round(chances[target] * 100));
+        minecraft.gui.setOverlayMessage(message, false);
+    }
+}
@@ -0,0 +1,86 @@
+package dev.cassis2310.falloutmc.client;
+
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import dev.cassis2310.falloutmc.survival.SurvivalStats;
+import dev.cassis2310.falloutmc.utils.helpers.TranslationHelpers;
+import net.minecraft.client.DeltaTracker;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.Font;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.LayeredDraw;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.locale.Language;
+import net.minecraft.network.chat.Component;
+import net.minecraft.util.FormattedCharSequence;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Draws the radiation, thirst, action points and carried weight of the player in the corner of the screen.
+ *
+ * <p>The lines are only rebuilt when the value they show changes, as rounded for display, or when the
+ * language changes. Every other frame draws the cached lines at fixed positions, so once every line
+ * has been built once the layer allocates nothing per frame.</p>
+ */
+public class SurvivalHud implements LayeredDraw.Layer
+{
+    private static final int RADS = 0, THIRST = 1, ACTION_POINTS = 2, CARRY_WEIGHT = 3;
+    private static final String[] KEYS = {
+            TranslationHelpers.getHudTranslationKey("rads"),
+            TranslationHelpers.getHudTranslationKey("thirst"),
+            TranslationHelpers.getHudTranslationKey("action_points"),
+            TranslationHelpers.getHudTranslationKey("carry_weight")
+    };
+    private static final int[] COLORS = {0x7FFF00, 0x3FA9F5, 0xFFD700, 0xE0E0E0};
+
+    private static final int MARGIN = 4;
+    private static final int LINE_HEIGHT = 10;
+
+    private final FormattedCharSequence[] lines = new FormattedCharSequence[KEYS.length];
+    private final int[] values = new int[KEYS.length];
+    private Language language;
+
+    @Override
+    public void render(@NotNull GuiGraphics graphics, @NotNull DeltaTracker deltaTracker)
+    {
+        final Minecraft minecraft = Minecraft.getInstance();
+        final LocalPlayer player = minecraft.player;
+        if (player == null || minecraft.options.hideGui || player.isSpectator())
+        {
+            return;
+        }
+
+        if (language != Language.getInstance())
+        {
+            // Translations changed, so every line is stale
+            language = Language.getInstance();
+            Arrays.fill(lines, null);
+        }
+
+        final SurvivalStats stats = player.getData(FalloutMcAttachments.SURVIVAL_STATS);
+        final Font font = minecraft.font;
+        update(RADS, Math.round(stats.getRads()));
+        update(THIRST, Math.round(stats.getThirst() * 100 / SurvivalStats.MAX_NEED));
+        update(ACTION_POINTS, Math.round(stats.getActionPoints()));
+        update(CARRY_WEIGHT, (int) Math.round(player.getData(FalloutMcAttachments.CARRY_WEIGHT).getTotalWeight() * 10));
+
+        for (int i = 0; i < lines.length; i++)
+        {
+            graphics.drawString(font, lines[i], MARGIN, MARGIN + i * LINE_HEIGHT, COLORS[i], true);
+        }
+    }
+
+    // Rebuilds a line if its displayed value changed
+    private void update(int line, int value)
+    {
+        if (lines[line] != null && values[line] == value)
+        {
+            return;
+        }
+
+        final Object argument = line == CARRY_WEIGHT ? value / 10.0 : value;
+        lines[line] = Component.translatable(KEYS[line], argument).getVisualOrderText();
+        values[line] = value;
+    }
+}
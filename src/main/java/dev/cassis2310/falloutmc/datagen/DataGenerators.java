@@ -45,6 +45,7 @@ public class DataGenerators
         BlockTagsProvider blockTagsProvider = new FalloutMcBlockTagProvider(packOutput, lookupProvider, existingFileHelper);
         generator.addProvider(event.includeServer(), blockTagsProvider);
         generator.addProvider(event.includeServer(), new FalloutMcItemTagProvider(packOutput, lookupProvider, blockTagsProvider.contentsGetter(), existingFileHelper));
+        generator.addProvider(event.includeServer(), new FalloutMcMobEffectTagProvider(packOutput, lookupProvider, existingFileHelper));
 
         generator.addProvider(event.includeServer(), new FalloutMcDataMapProvider(packOutput, lookupProvider));
 
@@ -72,7 +72,10 @@ public class FalloutMcBlockLootTableProvider extends BlockLootSubProvider
     @Override
     protected void generate()
     {
-        //
+        // Loot containers drop themselves; their contents are rolled by ContainerLootTables and dropped by the block
+        dropSelf(FalloutMcBlocks.FOOTLOCKER.get());
+        dropSelf(FalloutMcBlocks.TOOLBOX.get());
+        dropSelf(FalloutMcBlocks.FRIDGE.get());
     }
 
     /**
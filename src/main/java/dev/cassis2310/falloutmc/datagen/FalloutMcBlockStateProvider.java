@@ -42,7 +42,23 @@ public class FalloutMcBlockStateProvider extends BlockStateProvider
     @Override
     protected void registerStatesAndModels()
     {
-        //
+        // Loot containers use vanilla textures until they get their own
+        lootContainer(FalloutMcBlocks.FOOTLOCKER, "block/spruce_planks", "block/barrel_side", "block/barrel_top");
+        lootContainer(FalloutMcBlocks.TOOLBOX, "block/red_concrete", "block/red_concrete", "block/iron_block");
+        lootContainer(FalloutMcBlocks.FRIDGE, "block/white_concrete", "block/quartz_block_side", "block/iron_block");
+    }
+
+    /**
+     * Registers a horizontally facing loot container, with an orientable model built from vanilla textures.
+     *
+     * @param deferredBlock the deferred block to register
+     * @param side          the vanilla texture of the sides and back
+     * @param front         the vanilla texture of the front
+     * @param top           the vanilla texture of the top and bottom
+     */
+    private void lootContainer(DeferredBlock<?> deferredBlock, String side, String front, String top)
+    {
+        horizontalBlock(deferredBlock.get(), models().orientable(deferredBlock.getId().getPath(), mcLoc(side), mcLoc(front), mcLoc(top)));
     }
 
     /**
@@ -49,6 +49,9 @@ public class FalloutMcBlockTagProvider extends BlockTagsProvider
     @Override
     protected void addTags(HolderLookup.@NotNull Provider provider)
     {
-        //
+        tag(BlockTags.MINEABLE_WITH_PICKAXE)
+                .add(FalloutMcBlocks.FOOTLOCKER.get())
+                .add(FalloutMcBlocks.TOOLBOX.get())
+                .add(FalloutMcBlocks.FRIDGE.get());
     }
 }
@@ -1,10 +1,13 @@
 package dev.cassis2310.falloutmc.datagen;
 
 import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.blocks.FalloutMcBlocks;
 import dev.cassis2310.falloutmc.items.FalloutMcItems;
 import net.minecraft.data.PackOutput;
 import net.neoforged.neoforge.client.model.generators.ItemModelProvider;
+import net.neoforged.neoforge.client.model.generators.ModelFile;
 import net.neoforged.neoforge.common.data.ExistingFileHelper;
+import net.neoforged.neoforge.registries.DeferredBlock;
 
 /**
  * Provides item model generation for the Fallout Minecraft mod.
@@ -40,5 +43,21 @@ public class FalloutMcItemModelProvider extends ItemModelProvider
     protected void registerModels()
     {
         basicItem(FalloutMcItems.NUKA_COLA.get());
+
+        blockItem(FalloutMcBlocks.FOOTLOCKER);
+        blockItem(FalloutMcBlocks.TOOLBOX);
+        blockItem(FalloutMcBlocks.FRIDGE);
+    }
+
+    /**
+     * Registers an item model that renders as the block model of the same name. The block model is
+     * generated by {@link FalloutMcBlockStateProvider}, so its existence is not checked.
+     *
+     * @param deferredBlock the deferred block whose item to register
+     */
+    private void blockItem(DeferredBlock<?> deferredBlock)
+    {
+        final String name = deferredBlock.getId().getPath();
+        getBuilder(name).parent(new ModelFile.UncheckedModelFile(modLoc("block/" + name)));
     }
 }
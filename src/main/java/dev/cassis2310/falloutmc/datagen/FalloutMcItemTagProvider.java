@@ -2,9 +2,11 @@ package dev.cassis2310.falloutmc.datagen;
 
 import dev.cassis2310.falloutmc.FalloutMc;
 import dev.cassis2310.falloutmc.items.FalloutMcItems;
+import dev.cassis2310.falloutmc.tags.FalloutMcTags;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.data.PackOutput;
 import net.minecraft.data.tags.ItemTagsProvider;
+import net.minecraft.world.item.Items;
 import net.minecraft.world.level.block.Block;
 import net.neoforged.neoforge.common.data.ExistingFileHelper;
 import org.jetbrains.annotations.NotNull;
@@ -51,6 +53,32 @@ public class FalloutMcItemTagProvider extends ItemTagsProvider
     @Override
     protected void addTags(HolderLookup.@NotNull Provider provider)
     {
-        //
+        // Loot container pools, weighted by item value in ContainerLootTables
+        tag(FalloutMcTags.Items.FOOTLOCKER_LOOT)
+                .add(FalloutMcItems.NUKA_COLA.get())
+                .add(Items.ARROW)
+                .add(Items.STRING)
+                .add(Items.LEATHER)
+                .add(Items.BREAD)
+                .add(Items.IRON_NUGGET)
+                .add(Items.GOLD_NUGGET)
+                .add(Items.LEATHER_CHESTPLATE);
+        tag(FalloutMcTags.Items.TOOLBOX_LOOT)
+                .add(Items.IRON_NUGGET)
+                .add(Items.IRON_INGOT)
+                .add(Items.COPPER_INGOT)
+                .add(Items.REDSTONE)
+                .add(Items.FLINT)
+                .add(Items.SHEARS)
+                .add(Items.FLINT_AND_STEEL)
+                .add(Items.IRON_PICKAXE);
+        tag(FalloutMcTags.Items.FRIDGE_LOOT)
+                .add(FalloutMcItems.NUKA_COLA.get())
+                .add(Items.APPLE)
+                .add(Items.BREAD)
+                .add(Items.CARROT)
+                .add(Items.COOKED_BEEF)
+                .add(Items.ROTTEN_FLESH)
+                .add(Items.MILK_BUCKET);
     }
 }
@@ -0,0 +1,48 @@
+package dev.cassis2310.falloutmc.datagen;
+
+import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.tags.FalloutMcTags;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.data.PackOutput;
+import net.minecraft.data.tags.IntrinsicHolderTagsProvider;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.effect.MobEffects;
+import net.neoforged.neoforge.common.data.ExistingFileHelper;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides mob effect tag generation for the Fallout Minecraft mod.
+ */
+public class FalloutMcMobEffectTagProvider extends IntrinsicHolderTagsProvider<MobEffect>
+{
+    /**
+     * Creates a new mob effect tag provider.
+     *
+     * @param output the output pack for the generated mob effect tags
+     * @param lookupProvider a CompletableFuture for the lookup provider
+     * @param existingFileHelper a helper for managing existing files can be null
+     */
+    public FalloutMcMobEffectTagProvider(PackOutput output, CompletableFuture<HolderLookup.Provider> lookupProvider, @Nullable ExistingFileHelper existingFileHelper)
+    {
+        super(output, Registries.MOB_EFFECT, lookupProvider, effect -> BuiltInRegistries.MOB_EFFECT.getResourceKey(effect).orElseThrow(), FalloutMc.MOD_ID, existingFileHelper);
+    }
+
+    /**
+     * Adds mob effect tags to the provider.
+     *
+     * @param provider the provider for mob effect tags
+     */
+    @Override
+    protected void addTags(HolderLookup.@NotNull Provider provider)
+    {
+        // Weighted up for irradiated consumers in DiseaseTables
+        tag(FalloutMcTags.MobEffects.RADIATION_DISEASES)
+                .add(MobEffects.POISON.value())
+                .add(MobEffects.WITHER.value());
+    }
+}
@@ -2,8 +2,15 @@ package dev.cassis2310.falloutmc.datagen.codecs.effects;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import dev.cassis2310.falloutmc.utils.helpers.CodecHelpers;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.effect.MobEffect;
+
+import java.util.List;
+
 /**
  * A record representing a {@link MobEffect} with its duration.
  *
@@ -18,4 +25,18 @@ public record EffectWithDuration(MobEffect effect, int duration) {
             BuiltInRegistries.MOB_EFFECT.byNameCodec().fieldOf("effect").forGetter(EffectWithDuration::effect),
             Codec.INT.fieldOf("duration").forGetter(EffectWithDuration::duration)
     ).apply(instance, EffectWithDuration::new));
-}
\ No newline at end of file
+
+    /**
+     * A compact stream codec referencing the effect by registry id.
+     */
+    public static final StreamCodec<ByteBuf, EffectWithDuration> STREAM_CODEC = StreamCodec.composite(
+            CodecHelpers.MOB_EFFECT_STREAM_CODEC, EffectWithDuration::effect,
+            ByteBufCodecs.VAR_INT, EffectWithDuration::duration,
+            EffectWithDuration::new
+    );
+
+    /**
+     * A compact stream codec for a list of {@link EffectWithDuration} objects.
+     */
+    public static final StreamCodec<ByteBuf, List<EffectWithDuration>> LIST_STREAM_CODEC = STREAM_CODEC.apply(ByteBufCodecs.list());
+}
@@ -2,6 +2,9 @@ package dev.cassis2310.falloutmc.datagen.codecs.items;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import dev.cassis2310.falloutmc.utils.helpers.CodecHelpers;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.StreamCodec;
 
 /**
  * A record representing the attributes of an item.
@@ -35,4 +38,13 @@ public record ItemAttributes(double weight, int value)
             ).apply(instance, ItemAttributes::new)),
             ITEM_ATTRIBUTES_CODEC
     );
+
+    /** A compact stream codec used to sync item data, with a quantized weight and a var int value. */
+    public static final StreamCodec<ByteBuf, ItemAttributes> STREAM_CODEC = StreamCodec.of(
+            (buf, data) -> {
+                CodecHelpers.writeWeight(buf, data.weight());
+                CodecHelpers.writeVarInt(buf, data.value());
+            },
+            buf -> new ItemAttributes(CodecHelpers.readWeight(buf), CodecHelpers.readVarInt(buf))
+    );
 }
@@ -3,6 +3,9 @@ package dev.cassis2310.falloutmc.datagen.codecs.items.consumables;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import dev.cassis2310.falloutmc.datagen.codecs.effects.EffectWithDuration;
+import dev.cassis2310.falloutmc.utils.helpers.CodecHelpers;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.StreamCodec;
 
 import java.util.List;
 
@@ -54,4 +57,28 @@ public record ChemAttributes(List<EffectWithDuration> effects, int hungerRestore
             ).apply(instance, ChemAttributes::new)),
             CHEM_ATTRIBUTES_CODEC
     );
+
+    /**
+     * A compact stream codec used to sync chem data. Integers are var ints, the weight is quantized
+     * and the {@code addiction} and {@code recipe} flags are packed into a single byte.
+     */
+    public static final StreamCodec<ByteBuf, ChemAttributes> STREAM_CODEC = StreamCodec.of(
+            (buf, data) -> {
+                EffectWithDuration.LIST_STREAM_CODEC.encode(buf, data.effects());
+                CodecHelpers.writeVarInt(buf, data.hungerRestore());
+                CodecHelpers.writeVarInt(buf, data.thirstRestore());
+                CodecHelpers.writeWeight(buf, data.weight());
+                CodecHelpers.writeVarInt(buf, data.value());
+                CodecHelpers.writeFlags(buf, data.addiction(), data.recipe());
+            },
+            buf -> {
+                final List<EffectWithDuration> effects = EffectWithDuration.LIST_STREAM_CODEC.decode(buf);
+                final int hungerRestore = CodecHelpers.readVarInt(buf);
+                final int thirstRestore = CodecHelpers.readVarInt(buf);
+                final double weight = CodecHelpers.readWeight(buf);
+                final int value = CodecHelpers.readVarInt(buf);
+                final int flags = buf.readByte();
+                return new ChemAttributes(effects, hungerRestore, thirstRestore, weight, value, CodecHelpers.getFlag(flags, 0), CodecHelpers.getFlag(flags, 1));
+            }
+    );
 }
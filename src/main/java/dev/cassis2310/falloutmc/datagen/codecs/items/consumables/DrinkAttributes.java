@@ -3,7 +3,10 @@ package dev.cassis2310.falloutmc.datagen.codecs.items.consumables;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import dev.cassis2310.falloutmc.datagen.codecs.effects.EffectWithDuration;
+import dev.cassis2310.falloutmc.utils.helpers.CodecHelpers;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.effect.MobEffect;
 
 import java.util.List;
@@ -75,4 +78,37 @@ public record DrinkAttributes(int radiation, int hpRestore, int apBoost, List<Ef
             ).apply(instance, DrinkAttributes::new)),
             DRINK_ATTRIBUTES_CODEC
     );
+
+    /**
+     * A compact stream codec used to sync drink data. Integers are var ints, the weight is quantized, effects are
+     * referenced by registry id and the {@code addiction} and {@code recipe} flags are packed into a single byte.
+     */
+    public static final StreamCodec<ByteBuf, DrinkAttributes> STREAM_CODEC = StreamCodec.of(
+            (buf, data) -> {
+                CodecHelpers.writeVarInt(buf, data.radiation());
+                CodecHelpers.writeVarInt(buf, data.hpRestore());
+                CodecHelpers.writeVarInt(buf, data.apBoost());
+                EffectWithDuration.LIST_STREAM_CODEC.encode(buf, data.effects());
+                CodecHelpers.MOB_EFFECTS_STREAM_CODEC.encode(buf, data.deceaseEffects());
+                CodecHelpers.writeVarInt(buf, data.deceaseChance());
+                CodecHelpers.writeVarInt(buf, data.thirstRestore());
+                CodecHelpers.writeWeight(buf, data.weight());
+                CodecHelpers.writeVarInt(buf, data.value());
+                CodecHelpers.writeFlags(buf, data.addiction(), data.recipe());
+            },
+            buf -> {
+                final int radiation = CodecHelpers.readVarInt(buf);
+                final int hpRestore = CodecHelpers.readVarInt(buf);
+                final int apBoost = CodecHelpers.readVarInt(buf);
+                final List<EffectWithDuration> effects = EffectWithDuration.LIST_STREAM_CODEC.decode(buf);
+                final List<MobEffect> deceaseEffects = CodecHelpers.MOB_EFFECTS_STREAM_CODEC.decode(buf);
+                final int deceaseChance = CodecHelpers.readVarInt(buf);
+                final int thirstRestore = CodecHelpers.readVarInt(buf);
+                final double weight = CodecHelpers.readWeight(buf);
+                final int value = CodecHelpers.readVarInt(buf);
+                final int flags = buf.readByte();
+                return new DrinkAttributes(radiation, hpRestore, apBoost, effects, deceaseEffects, deceaseChance, thirstRestore, weight, value,
+                        CodecHelpers.getFlag(flags, 0), CodecHelpers.getFlag(flags, 1));
+            }
+    );
 }
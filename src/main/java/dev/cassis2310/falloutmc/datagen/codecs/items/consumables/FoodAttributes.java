@@ -3,7 +3,10 @@ package dev.cassis2310.falloutmc.datagen.codecs.items.consumables;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import dev.cassis2310.falloutmc.datagen.codecs.effects.EffectWithDuration;
+import dev.cassis2310.falloutmc.utils.helpers.CodecHelpers;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.effect.MobEffect;
 
 import java.util.List;
@@ -79,4 +82,38 @@ public record FoodAttributes(int radiation, int hpRestore, List<EffectWithDurati
             ).apply(instance, FoodAttributes::new)),
             FOOD_ATTRIBUTES_CODEC
     );
+
+    /**
+     * A compact stream codec used to sync food data. Integers are var ints, the weight is quantized, effects are
+     * referenced by registry id and the {@code addiction}, {@code recipe} and {@code plantable} flags are packed
+     * into a single byte.
+     */
+    public static final StreamCodec<ByteBuf, FoodAttributes> STREAM_CODEC = StreamCodec.of(
+            (buf, data) -> {
+                CodecHelpers.writeVarInt(buf, data.radiation());
+                CodecHelpers.writeVarInt(buf, data.hpRestore());
+                EffectWithDuration.LIST_STREAM_CODEC.encode(buf, data.effects());
+                CodecHelpers.MOB_EFFECTS_STREAM_CODEC.encode(buf, data.deceaseEffects());
+                CodecHelpers.writeVarInt(buf, data.deceaseChance());
+                CodecHelpers.writeVarInt(buf, data.hungerRestore());
+                CodecHelpers.writeVarInt(buf, data.thirstRestore());
+                CodecHelpers.writeWeight(buf, data.weight());
+                CodecHelpers.writeFlags(buf, data.addiction(), data.recipe(), data.plantable());
+                CodecHelpers.writeVarInt(buf, data.value());
+            },
+            buf -> {
+                final int radiation = CodecHelpers.readVarInt(buf);
+                final int hpRestore = CodecHelpers.readVarInt(buf);
+                final List<EffectWithDuration> effects = EffectWithDuration.LIST_STREAM_CODEC.decode(buf);
+                final List<MobEffect> deceaseEffects = CodecHelpers.MOB_EFFECTS_STREAM_CODEC.decode(buf);
+                final int deceaseChance = CodecHelpers.readVarInt(buf);
+                final int hungerRestore = CodecHelpers.readVarInt(buf);
+                final int thirstRestore = CodecHelpers.readVarInt(buf);
+                final double weight = CodecHelpers.readWeight(buf);
+                final int flags = buf.readByte();
+                final int value = CodecHelpers.readVarInt(buf);
+                return new FoodAttributes(radiation, hpRestore, effects, deceaseEffects, deceaseChance, hungerRestore, thirstRestore, weight,
+                        CodecHelpers.getFlag(flags, 0), CodecHelpers.getFlag(flags, 1), CodecHelpers.getFlag(flags, 2), value);
+            }
+    );
 }
@@ -3,6 +3,9 @@ package dev.cassis2310.falloutmc.datagen.codecs.items.consumables;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import dev.cassis2310.falloutmc.datagen.codecs.effects.EffectWithDuration;
+import dev.cassis2310.falloutmc.utils.helpers.CodecHelpers;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.StreamCodec;
 
 import java.util.List;
 
@@ -52,4 +55,24 @@ public record MiscellaneousAttributes(List<EffectWithDuration> effects, int radi
             ).apply(instance, MiscellaneousAttributes::new)),
             MISCELLANEOUS_ATTRIBUTES_CODEC
     );
+
+    /**
+     * A compact stream codec used to sync miscellaneous item data. Integers are var ints and the weight is quantized.
+     */
+    public static final StreamCodec<ByteBuf, MiscellaneousAttributes> STREAM_CODEC = StreamCodec.of(
+            (buf, data) -> {
+                EffectWithDuration.LIST_STREAM_CODEC.encode(buf, data.effects());
+                CodecHelpers.writeVarInt(buf, data.radiation());
+                CodecHelpers.writeWeight(buf, data.weight());
+                CodecHelpers.writeVarInt(buf, data.value());
+                buf.writeBoolean(data.addiction());
+            },
+            buf -> {
+                final List<EffectWithDuration> effects = EffectWithDuration.LIST_STREAM_CODEC.decode(buf);
+                final int radiation = CodecHelpers.readVarInt(buf);
+                final double weight = CodecHelpers.readWeight(buf);
+                final int value = CodecHelpers.readVarInt(buf);
+                return new MiscellaneousAttributes(effects, radiation, weight, value, buf.readBoolean());
+            }
+    );
 }
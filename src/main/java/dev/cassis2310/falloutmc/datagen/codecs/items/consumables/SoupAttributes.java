@@ -3,7 +3,10 @@ package dev.cassis2310.falloutmc.datagen.codecs.items.consumables;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import dev.cassis2310.falloutmc.datagen.codecs.effects.EffectWithDuration;
+import dev.cassis2310.falloutmc.utils.helpers.CodecHelpers;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.effect.MobEffect;
 
 import java.util.List;
@@ -71,4 +74,36 @@ public record SoupAttributes(int radiation, int hpRestore, List<EffectWithDurati
             ).apply(instance, SoupAttributes::new)),
             SOUP_ATTRIBUTES_CODEC
     );
+
+    /**
+     * A compact stream codec used to sync soup data. Integers are var ints, the weight is quantized and
+     * effects are referenced by registry id.
+     */
+    public static final StreamCodec<ByteBuf, SoupAttributes> STREAM_CODEC = StreamCodec.of(
+            (buf, data) -> {
+                CodecHelpers.writeVarInt(buf, data.radiation());
+                CodecHelpers.writeVarInt(buf, data.hpRestore());
+                EffectWithDuration.LIST_STREAM_CODEC.encode(buf, data.effects());
+                CodecHelpers.MOB_EFFECTS_STREAM_CODEC.encode(buf, data.deceaseEffects());
+                CodecHelpers.writeVarInt(buf, data.deceaseChance());
+                CodecHelpers.writeVarInt(buf, data.hungerRestore());
+                CodecHelpers.writeVarInt(buf, data.thirstRestore());
+                CodecHelpers.writeWeight(buf, data.weight());
+                buf.writeBoolean(data.recipe());
+                CodecHelpers.writeVarInt(buf, data.value());
+            },
+            buf -> {
+                final int radiation = CodecHelpers.readVarInt(buf);
+                final int hpRestore = CodecHelpers.readVarInt(buf);
+                final List<EffectWithDuration> effects = EffectWithDuration.LIST_STREAM_CODEC.decode(buf);
+                final List<MobEffect> deceaseEffects = CodecHelpers.MOB_EFFECTS_STREAM_CODEC.decode(buf);
+                final int deceaseChance = CodecHelpers.readVarInt(buf);
+                final int hungerRestore = CodecHelpers.readVarInt(buf);
+                final int thirstRestore = CodecHelpers.readVarInt(buf);
+                final double weight = CodecHelpers.readWeight(buf);
+                final boolean recipe = buf.readBoolean();
+                final int value = CodecHelpers.readVarInt(buf);
+                return new SoupAttributes(radiation, hpRestore, effects, deceaseEffects, deceaseChance, hungerRestore, thirstRestore, weight, recipe, value);
+            }
+    );
 }
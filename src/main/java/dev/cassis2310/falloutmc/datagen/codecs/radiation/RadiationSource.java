@@ -0,0 +1,29 @@
+package dev.cassis2310.falloutmc.datagen.codecs.radiation;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+/**
+ * A record representing a source of world radiation, such as a block or an entity.
+ *
+ * <p>Two codecs are provided:</p>
+ * <ul>
+ *   <li>{@link #RADIATION_SOURCE_CODEC} - A codec with a named intensity field.</li>
+ *   <li>{@link #CODEC} - An alternative codec that also accepts the intensity as a raw integer.</li>
+ * </ul>
+ *
+ * @param intensity the radiation emitted by the source, in rads
+ */
+public record RadiationSource(int intensity)
+{
+    /** A codec for serializing and deserializing radiation sources. */
+    public static final Codec<RadiationSource> RADIATION_SOURCE_CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.intRange(0, Integer.MAX_VALUE).fieldOf("intensity").forGetter(RadiationSource::intensity)
+    ).apply(instance, RadiationSource::new));
+
+    /** A codec for serializing and deserializing radiation sources, supporting both named field and raw formats. */
+    public static final Codec<RadiationSource> CODEC = Codec.withAlternative(
+            RADIATION_SOURCE_CODEC,
+            Codec.intRange(0, Integer.MAX_VALUE).xmap(RadiationSource::new, RadiationSource::intensity)
+    );
+}
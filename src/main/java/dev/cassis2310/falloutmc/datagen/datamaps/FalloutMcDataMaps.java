@@ -1,32 +1,51 @@
 package dev.cassis2310.falloutmc.datagen.datamaps;
 
+import com.mojang.logging.LogUtils;
 import com.mojang.serialization.Codec;
 import dev.cassis2310.falloutmc.FalloutMc;
 import dev.cassis2310.falloutmc.datagen.codecs.items.ItemAttributes;
 import dev.cassis2310.falloutmc.datagen.codecs.items.consumables.*;
+import dev.cassis2310.falloutmc.datagen.codecs.radiation.RadiationSource;
 import dev.cassis2310.falloutmc.utils.helpers.ResourceHelpers;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.Registry;
 import net.minecraft.core.registries.Registries;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.item.Item;
+import net.minecraft.world.level.block.Block;
 
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.registries.datamaps.DataMapType;
 import net.neoforged.neoforge.registries.datamaps.RegisterDataMapTypesEvent;
 
+import org.slf4j.Logger;
+
+import java.util.Map;
+
 /**
  * This class manages data maps for the Fallout Minecraft mod.
  */
 @EventBusSubscriber(modid = FalloutMc.MOD_ID, bus = EventBusSubscriber.Bus.MOD)
 public class FalloutMcDataMaps
 {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
     /**
      * Creates a {@link DataMapType} for item attributes in the Fallout Minecraft mod.
      *
-     * <p>This method constructs a new {@link DataMapType} specifically for item attributes.
-     * It utilizes the specified main codec for serialization and a separate syncing codec
-     * for client-server synchronization, ensuring that item attributes are correctly
-     * serialized and transmitted within the mod's data maps.</p>
+     * <p>This method constructs a new {@link DataMapType} specifically for item attributes,
+     * using the specified main codec for serialization. The data map is deliberately not
+     * synced by NeoForge, which would resend every entry on each reload; instead,
+     * {@link dev.cassis2310.falloutmc.network.DataMapSync} sends its values to clients,
+     * and after a reload only the entries that changed.</p>
      *
      * <p>The {@link DataMapType} is associated with the {@link Item} class in the Minecraft
      * registry and is uniquely identified by the provided name. The name is also prefixed
@@ -34,17 +53,16 @@ public class FalloutMcDataMaps
      *
      * @param name      The unique name for the data map type, identifying it within the mod.
      * @param mainCodec The codec used for the primary serialization of item attributes.
-     * @param syncCodec The codec used for syncing item attributes between client and server.
      * @param <T>       The type of data being serialized and synchronized in the data map.
      * @return A {@link DataMapType} instance built with the specified codecs and name, ready for use.
      */
-    private static <T> DataMapType<Item, T> createItemDataMapType(String name, Codec<T> mainCodec, Codec<T> syncCodec)
+    private static <T> DataMapType<Item, T> createItemDataMapType(String name, Codec<T> mainCodec)
     {
         return DataMapType.builder(
                 ResourceHelpers.resourceWithNamespace(FalloutMc.MOD_ID, name),
                 Registries.ITEM,
                 mainCodec
-        ).synced(syncCodec, false).build();
+        ).build();
     }
 
     /**
@@ -53,13 +71,11 @@ public class FalloutMcDataMaps
      * <p>This data map type links item attributes to the {@link Item} class and uses
      * {@link ItemAttributes#CODEC} for serialization.</p>
      *
-     * <p>The data map is marked as synced, meaning its values will be transmitted to clients.
-     * The syncing codec can be the same as the main codec or a simplified version that
-     * excludes unnecessary fields for the client. In this case, it is specified using
-     * {@link ItemAttributes#ITEM_ATTRIBUTES_CODEC} as the syncing codec.</p>
+     * <p>Its values are sent to clients by {@link dev.cassis2310.falloutmc.network.DataMapSync}
+     * using the compact {@link ItemAttributes#STREAM_CODEC}.</p>
      */
     public static final DataMapType<Item, ItemAttributes> ITEM_ATTRIBUTES = createItemDataMapType(
-            "item_attributes", ItemAttributes.CODEC, ItemAttributes.ITEM_ATTRIBUTES_CODEC
+            "item_attributes", ItemAttributes.CODEC
     );
 
     /**
@@ -68,13 +84,11 @@ public class FalloutMcDataMaps
      * <p>This data map type links food attributes to the {@link Item} class and uses
      * {@link FoodAttributes#CODEC} for serialization.</p>
      *
-     * <p>The data map is marked as synced, meaning its values will be transmitted to clients.
-     * The syncing codec can be the same as the main codec or a simplified version that
-     * excludes unnecessary fields for the client. In this case, it is specified using
-     * {@link FoodAttributes#FOOD_ATTRIBUTES_CODEC} as the syncing codec.</p>
+     * <p>Its values are sent to clients by {@link dev.cassis2310.falloutmc.network.DataMapSync}
+     * using the compact {@link FoodAttributes#STREAM_CODEC}.</p>
      */
     public static final DataMapType<Item, FoodAttributes> FOOD_ATTRIBUTES = createItemDataMapType(
-            "food_attributes", FoodAttributes.CODEC, FoodAttributes.FOOD_ATTRIBUTES_CODEC
+            "food_attributes", FoodAttributes.CODEC
     );
 
     /**
@@ -83,13 +97,11 @@ public class FalloutMcDataMaps
      * <p>This data map type links soup item attributes to the {@link Item} class and uses
      * {@link SoupAttributes#CODEC} for serialization.</p>
      *
-     * <p>The data map is marked as synced, meaning its values will be transmitted to clients.
-     * The syncing codec can be the same as the main codec or a simplified version that
-     * excludes unnecessary fields for the client. In this case, it is specified using
-     * {@link SoupAttributes#SOUP_ATTRIBUTES_CODEC} as the syncing codec.</p>
+     * <p>Its values are sent to clients by {@link dev.cassis2310.falloutmc.network.DataMapSync}
+     * using the compact {@link SoupAttributes#STREAM_CODEC}.</p>
      */
     public static final DataMapType<Item, SoupAttributes> SOUP_ATTRIBUTES = createItemDataMapType(
-            "soup_attributes", SoupAttributes.CODEC, SoupAttributes.SOUP_ATTRIBUTES_CODEC
+            "soup_attributes", SoupAttributes.CODEC
     );
 
     /**
@@ -98,13 +110,11 @@ public class FalloutMcDataMaps
      * <p>This data map type links drink item attributes to the {@link Item} class and uses
      * {@link DrinkAttributes#CODEC} for serialization.</p>
      *
-     * <p>The data map is marked as synced, meaning its values will be transmitted to clients.
-     * The syncing codec can be the same as the main codec or a simplified version that
-     * excludes unnecessary fields for the client. In this case, it is specified using
-     * {@link DrinkAttributes#DRINK_ATTRIBUTES_CODEC} as the syncing codec.</p>
+     * <p>Its values are sent to clients by {@link dev.cassis2310.falloutmc.network.DataMapSync}
+     * using the compact {@link DrinkAttributes#STREAM_CODEC}.</p>
      */
     public static final DataMapType<Item, DrinkAttributes> DRINK_ATTRIBUTES = createItemDataMapType(
-            "drink_attributes", DrinkAttributes.CODEC, DrinkAttributes.DRINK_ATTRIBUTES_CODEC
+            "drink_attributes", DrinkAttributes.CODEC
     );
 
     /**
@@ -113,13 +123,11 @@ public class FalloutMcDataMaps
      * <p>This data map type links chem item attributes to the {@link Item} class and uses
      * {@link ChemAttributes#CODEC} for serialization.</p>
      *
-     * <p>The data map is marked as synced, meaning its values will be transmitted to clients.
-     * The syncing codec can be the same as the main codec or a simplified version that
-     * excludes unnecessary fields for the client. In this case, it is specified using
-     * {@link ChemAttributes#CHEM_ATTRIBUTES_CODEC} as the syncing codec.</p>
+     * <p>Its values are sent to clients by {@link dev.cassis2310.falloutmc.network.DataMapSync}
+     * using the compact {@link ChemAttributes#STREAM_CODEC}.</p>
      */
     public static final DataMapType<Item, ChemAttributes> CHEM_ATTRIBUTES = createItemDataMapType(
-            "chem_attributes", ChemAttributes.CODEC, ChemAttributes.CHEM_ATTRIBUTES_CODEC
+            "chem_attributes", ChemAttributes.CODEC
     );
 
     /**
@@ -128,15 +136,78 @@ public class FalloutMcDataMaps
      * <p>This data map type links miscellaneous item attributes to the {@link Item} class and uses
      * {@link MiscellaneousAttributes#CODEC} for serialization.</p>
      *
-     * <p>The data map is marked as synced, meaning its values will be transmitted to clients.
-     * The syncing codec can be the same as the main codec or a simplified version that
-     * excludes unnecessary fields for the client. In this case, it is specified using
-     * {@link MiscellaneousAttributes#MISCELLANEOUS_ATTRIBUTES_CODEC} as the syncing codec.</p>
+     * <p>Its values are sent to clients by {@link dev.cassis2310.falloutmc.network.DataMapSync}
+     * using the compact {@link MiscellaneousAttributes#STREAM_CODEC}.</p>
      */
     public static final DataMapType<Item, MiscellaneousAttributes> MISCELLANEOUS_ATTRIBUTES = createItemDataMapType(
-            "miscellaneous_attributes", MiscellaneousAttributes.CODEC, MiscellaneousAttributes.MISCELLANEOUS_ATTRIBUTES_CODEC
+            "miscellaneous_attributes", MiscellaneousAttributes.CODEC
     );
 
+    /**
+     * A data map type for blocks that emit radiation into the world.
+     *
+     * <p>This data map type links a {@link RadiationSource} to the {@link Block} class and uses
+     * {@link RadiationSource#CODEC} for serialization. Radiation is only simulated on the server,
+     * so the data map is not synced.</p>
+     */
+    public static final DataMapType<Block, RadiationSource> BLOCK_RADIATION = DataMapType.builder(
+            ResourceHelpers.resourceWithNamespace(FalloutMc.MOD_ID, "block_radiation"),
+            Registries.BLOCK,
+            RadiationSource.CODEC
+    ).build();
+
+    /**
+     * A data map type for entities that emit radiation into the world.
+     *
+     * <p>This data map type links a {@link RadiationSource} to the {@link EntityType} class and uses
+     * {@link RadiationSource#CODEC} for serialization. Radiation is only simulated on the server,
+     * so the data map is not synced.</p>
+     */
+    public static final DataMapType<EntityType<?>, RadiationSource> ENTITY_RADIATION = DataMapType.builder(
+            ResourceHelpers.resourceWithNamespace(FalloutMc.MOD_ID, "entity_radiation"),
+            Registries.ENTITY_TYPE,
+            RadiationSource.CODEC
+    ).build();
+
+    /**
+     * Logs how many bytes a full sync of each data map takes with the compact stream codec that is
+     * actually used, compared to the full record codec sent as NBT.
+     *
+     * @param registry the item registry holding the loaded data maps
+     */
+    public static void logSyncPayloadSizes(Registry<Item> registry)
+    {
+        logSyncPayloadSize(registry, ITEM_ATTRIBUTES, ItemAttributes.ITEM_ATTRIBUTES_CODEC, ItemAttributes.STREAM_CODEC);
+        logSyncPayloadSize(registry, FOOD_ATTRIBUTES, FoodAttributes.FOOD_ATTRIBUTES_CODEC, FoodAttributes.STREAM_CODEC);
+        logSyncPayloadSize(registry, SOUP_ATTRIBUTES, SoupAttributes.SOUP_ATTRIBUTES_CODEC, SoupAttributes.STREAM_CODEC);
+        logSyncPayloadSize(registry, DRINK_ATTRIBUTES, DrinkAttributes.DRINK_ATTRIBUTES_CODEC, DrinkAttributes.STREAM_CODEC);
+        logSyncPayloadSize(registry, CHEM_ATTRIBUTES, ChemAttributes.CHEM_ATTRIBUTES_CODEC, ChemAttributes.STREAM_CODEC);
+        logSyncPayloadSize(registry, MISCELLANEOUS_ATTRIBUTES, MiscellaneousAttributes.MISCELLANEOUS_ATTRIBUTES_CODEC, MiscellaneousAttributes.STREAM_CODEC);
+    }
+
+    private static <T> void logSyncPayloadSize(Registry<Item> registry, DataMapType<Item, T> type, Codec<T> recordCodec, StreamCodec<ByteBuf, T> streamCodec)
+    {
+        final ByteBuf buf = Unpooled.buffer();
+        long recordBytes = 0;
+        int entries = 0;
+        for (Map.Entry<ResourceKey<Item>, T> entry : registry.getDataMap(type).entrySet())
+        {
+            recordBytes += encodedSize(recordCodec, entry.getValue());
+            VarInt.write(buf, registry.getId(registry.get(entry.getKey())));
+            streamCodec.encode(buf, entry.getValue());
+            entries++;
+        }
+        final int syncBytes = buf.readableBytes();
+        LOGGER.info("[{}]: Data map {} syncs {} entries in {} bytes (record codec: {} bytes)", FalloutMc.MOD_NAME, type.id(), entries, syncBytes, recordBytes);
+    }
+
+    private static <T> int encodedSize(Codec<T> codec, T value)
+    {
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeNbt(codec.encodeStart(NbtOps.INSTANCE, value).getOrThrow());
+        return buf.readableBytes();
+    }
+
     /**
      * Registers the custom data map types for the Fallout Minecraft mod.
      *
@@ -157,5 +228,9 @@ public class FalloutMcDataMaps
         event.register(DRINK_ATTRIBUTES);
         event.register(CHEM_ATTRIBUTES);
         event.register(MISCELLANEOUS_ATTRIBUTES);
+
+        // Radiation DataMaps...
+        event.register(BLOCK_RADIATION);
+        event.register(ENTITY_RADIATION);
     }
 }
@@ -0,0 +1,71 @@
+package dev.cassis2310.falloutmc.economy;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * The prices of every item at a vendor, for a player of a given reputation, indexed by item registry id.
+ *
+ * <p>Price lists are computed by {@link PriceTables#quote(Vendor, float)} and stay valid until the next
+ * data pack reload. Prices are in caps, and 0 for items that cannot be traded.</p>
+ */
+public class PriceList
+{
+    private final float[] buyPrices;
+    private final float[] sellPrices;
+
+    PriceList(float[] buyPrices, float[] sellPrices)
+    {
+        this.buyPrices = buyPrices;
+        this.sellPrices = sellPrices;
+    }
+
+    /**
+     * @param item the item
+     * @return the price the player pays for one item, in caps
+     */
+    public int getBuyPrice(Item item)
+    {
+        return Math.round(priceOf(buyPrices, BuiltInRegistries.ITEM.getId(item)));
+    }
+
+    /**
+     * @param item the item
+     * @return the price the player gets for one item, in caps
+     */
+    public int getSellPrice(Item item)
+    {
+        return Math.round(priceOf(sellPrices, BuiltInRegistries.ITEM.getId(item)));
+    }
+
+    /**
+     * Values the whole content of a container, such as the goods a player offers for barter, in a single pass
+     * over its slots.
+     *
+     * @param container the container
+     * @param selling   whether the player sells the content, or buys it
+     * @return the total price, in caps
+     */
+    public int valueOf(Container container, boolean selling)
+    {
+        final float[] prices = selling ? sellPrices : buyPrices;
+        final int size = container.getContainerSize();
+        double total = 0;
+        for (int slot = 0; slot < size; slot++)
+        {
+            final ItemStack stack = container.getItem(slot);
+            if (!stack.isEmpty())
+            {
+                total += priceOf(prices, BuiltInRegistries.ITEM.getId(stack.getItem())) * stack.getCount();
+            }
+        }
+        return (int) Math.round(total);
+    }
+
+    private static float priceOf(float[] prices, int id)
+    {
+        return id >= 0 && id < prices.length ? prices[id] : 0;
+    }
+}
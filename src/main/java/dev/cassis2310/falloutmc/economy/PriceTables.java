@@ -0,0 +1,90 @@
+package dev.cassis2310.falloutmc.economy;
+
+import com.mojang.logging.LogUtils;
+import dev.cassis2310.falloutmc.items.ItemProfile;
+import dev.cassis2310.falloutmc.items.ItemProfileCache;
+import net.minecraft.util.Mth;
+import org.slf4j.Logger;
+
+import static dev.cassis2310.falloutmc.FalloutMc.MOD_NAME;
+
+/**
+ * The base buy and sell prices of every item, precomputed from the {@code value} of its profile.
+ *
+ * <p>The base tables are rebuilt whenever the data maps load or values are inferred from recipes. Vendor
+ * and reputation modifiers are then applied by {@link #quote(Vendor, float)} as a multiplication of whole
+ * arrays, in plain counted loops that the JIT compiles to vector instructions.</p>
+ */
+public class PriceTables
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** The part of the value a vendor pays for an item it buys from the player. */
+    public static final float SELL_RATIO = 0.5F;
+    /** The largest discount on buy prices, and bonus on sell prices, given by the best reputation. */
+    public static final float REPUTATION_EFFECT = 0.25F;
+
+    // Both tables are replaced together, so readers never see a buy table from one reload and a sell table from another
+    private static volatile Base base = new Base(new float[0], new float[0]);
+
+    private PriceTables()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Computes the prices of a vendor for a player.
+     *
+     * @param vendor     the vendor
+     * @param reputation the reputation of the player with the vendor, from -1 (hated) to 1 (idolized)
+     * @return the price list
+     */
+    public static PriceList quote(Vendor vendor, float reputation)
+    {
+        final Base base = PriceTables.base;
+        final float clamped = Mth.clamp(reputation, -1, 1);
+        final float buyFactor = vendor.buyMultiplier() * (1 - REPUTATION_EFFECT * clamped);
+        final float sellFactor = vendor.sellMultiplier() * (1 + REPUTATION_EFFECT * clamped);
+
+        final int size = base.buy().length;
+        final float[] buy = new float[size];
+        final float[] sell = new float[size];
+        for (int i = 0; i < size; i++)
+        {
+            buy[i] = base.buy()[i] * buyFactor;
+        }
+        for (int i = 0; i < size; i++)
+        {
+            // A vendor never buys an item for more than it sells it
+            sell[i] = Math.min(base.sell()[i] * sellFactor, buy[i]);
+        }
+        return new PriceList(buy, sell);
+    }
+
+    /**
+     * Rebuilds the base tables from {@link ItemProfileCache}, which must be rebuilt first.
+     *
+     * @param size the size of the item registry
+     */
+    public static void rebuild(int size)
+    {
+        final float[] buy = new float[size];
+        final float[] sell = new float[size];
+        int tradeable = 0;
+        for (int id = 0; id < size; id++)
+        {
+            final ItemProfile profile = ItemProfileCache.byId(id);
+            // Vanilla entries use -1 for items without a value, which cannot be traded
+            if (profile != null && profile.value() > 0)
+            {
+                buy[id] = profile.value();
+                sell[id] = profile.value() * SELL_RATIO;
+                tradeable++;
+            }
+        }
+        base = new Base(buy, sell);
+        LOGGER.debug("[{}]: Priced {} tradeable items", MOD_NAME, tradeable);
+    }
+
+    private record Base(float[] buy, float[] sell) {}
+}
@@ -0,0 +1,21 @@
+package dev.cassis2310.falloutmc.economy;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+/**
+ * The pricing of a vendor, relative to the base value of items.
+ *
+ * @param buyMultiplier  the factor applied to the price of items the player buys from the vendor
+ * @param sellMultiplier the factor applied to the price of items the player sells to the vendor
+ */
+public record Vendor(float buyMultiplier, float sellMultiplier)
+{
+    /** A vendor buying and selling at the default prices. */
+    public static final Vendor DEFAULT = new Vendor(1, 1);
+
+    public static final Codec<Vendor> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.FLOAT.optionalFieldOf("buyMultiplier", 1F).forGetter(Vendor::buyMultiplier),
+            Codec.FLOAT.optionalFieldOf("sellMultiplier", 1F).forGetter(Vendor::sellMultiplier)
+    ).apply(instance, Vendor::new));
+}
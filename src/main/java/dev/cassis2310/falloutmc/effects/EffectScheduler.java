@@ -0,0 +1,48 @@
+package dev.cassis2310.falloutmc.effects;
+
+import dev.cassis2310.falloutmc.utils.TimingWheel;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.LivingEntity;
+
+import java.util.UUID;
+
+/**
+ * The timed effects of the entities of a level, scheduled on a {@link TimingWheel}.
+ *
+ * <p>The scheduler only references the timers held by {@link EffectTimers}, which remain the source of
+ * truth. Entities are scheduled again as they load, so the scheduler is never saved, and a timer that has
+ * since been replaced or whose entity left the level is skipped when it fires. Entities are referenced by
+ * UUID, so an entity that unloads or logs out is not kept in memory until its timers end.</p>
+ */
+public class EffectScheduler
+{
+    private final TimingWheel<Pending> wheel = new TimingWheel<>();
+
+    /**
+     * Schedules the end of the current stage of a timer.
+     *
+     * @param entity the entity holding the timer
+     * @param timer  the timer
+     */
+    public void schedule(LivingEntity entity, EffectTimers.Timer timer)
+    {
+        wheel.schedule(entity.level().getGameTime(), timer.deadline(), new Pending(entity.getUUID(), timer));
+    }
+
+    /**
+     * Ends the stages due this tick.
+     *
+     * @param level the level
+     */
+    public void tick(ServerLevel level)
+    {
+        wheel.advance(level.getGameTime(), pending -> {
+            if (level.getEntity(pending.entityId()) instanceof LivingEntity entity)
+            {
+                TimedEffects.onStageEnded(level, entity, pending.timer());
+            }
+        });
+    }
+
+    private record Pending(UUID entityId, EffectTimers.Timer timer) {}
+}
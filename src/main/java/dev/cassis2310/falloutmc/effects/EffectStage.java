@@ -0,0 +1,23 @@
+package dev.cassis2310.falloutmc.effects;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.effect.MobEffect;
+
+/**
+ * A stage of a timed effect, such as a chem's buff, or the withdrawal that follows it.
+ *
+ * @param effect    the effect applied during the stage
+ * @param amplifier the amplifier of the effect
+ * @param duration  the duration of the stage in ticks
+ */
+public record EffectStage(Holder<MobEffect> effect, int amplifier, int duration)
+{
+    public static final Codec<EffectStage> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            BuiltInRegistries.MOB_EFFECT.holderByNameCodec().fieldOf("effect").forGetter(EffectStage::effect),
+            Codec.INT.optionalFieldOf("amplifier", 0).forGetter(EffectStage::amplifier),
+            Codec.INT.fieldOf("duration").forGetter(EffectStage::duration)
+    ).apply(instance, EffectStage::new));
+}
@@ -0,0 +1,120 @@
+package dev.cassis2310.falloutmc.effects;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.entity.Entity;
+import net.neoforged.neoforge.attachment.IAttachmentHolder;
+import net.neoforged.neoforge.common.util.INBTSerializable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static dev.cassis2310.falloutmc.FalloutMc.MOD_NAME;
+
+/**
+ * The timed effects of an entity, attached to the entity and saved with it.
+ *
+ * <p>Each timer holds the stages still to come, the first being the one currently applied, and the game
+ * tick at which it ends. Timers are saved with the ticks remaining rather than the deadline, so that, like
+ * vanilla effects, they do not run down while the entity is not loaded.</p>
+ *
+ * @see TimedEffects
+ */
+public class EffectTimers implements INBTSerializable<CompoundTag>
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private final IAttachmentHolder holder;
+    private final List<Timer> timers = new ArrayList<>(2);
+
+    public EffectTimers(IAttachmentHolder holder)
+    {
+        this.holder = holder;
+    }
+
+    /**
+     * @return the timers of the entity
+     */
+    public List<Timer> getTimers()
+    {
+        return Collections.unmodifiableList(timers);
+    }
+
+    void add(Timer timer)
+    {
+        timers.add(timer);
+    }
+
+    /**
+     * Removes a timer, compared by identity since a timer may be replaced by an equal one.
+     *
+     * @return whether the timer was present
+     */
+    boolean remove(Timer timer)
+    {
+        for (int i = 0; i < timers.size(); i++)
+        {
+            if (timers.get(i) == timer)
+            {
+                timers.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public @UnknownNullability CompoundTag serializeNBT(HolderLookup.@NotNull Provider provider)
+    {
+        final long now = gameTime();
+        final CompoundTag tag = new CompoundTag();
+        final ListTag list = new ListTag();
+        for (Timer timer : timers)
+        {
+            final List<EffectStage> stages = new ArrayList<>(timer.stages());
+            final EffectStage current = stages.getFirst();
+            stages.set(0, new EffectStage(current.effect(), current.amplifier(), (int) Math.max(timer.deadline() - now, 0)));
+            EffectStage.CODEC.listOf().encodeStart(NbtOps.INSTANCE, stages)
+                    .resultOrPartial(error -> LOGGER.error("[{}]: Failed to save effect timer: {}", MOD_NAME, error))
+                    .ifPresent(list::add);
+        }
+        tag.put("timers", list);
+        return tag;
+    }
+
+    @Override
+    public void deserializeNBT(HolderLookup.@NotNull Provider provider, @NotNull CompoundTag tag)
+    {
+        final long now = gameTime();
+        timers.clear();
+        final ListTag list = tag.getList("timers", Tag.TAG_LIST);
+        for (Tag entry : list)
+        {
+            EffectStage.CODEC.listOf().parse(NbtOps.INSTANCE, entry)
+                    .resultOrPartial(error -> LOGGER.error("[{}]: Failed to load effect timer: {}", MOD_NAME, error))
+                    .filter(stages -> !stages.isEmpty())
+                    .ifPresent(stages -> timers.add(new Timer(now + stages.getFirst().duration(), List.copyOf(stages))));
+        }
+    }
+
+    private long gameTime()
+    {
+        return holder instanceof Entity entity ? entity.level().getGameTime() : 0;
+    }
+
+    /**
+     * A running timed effect.
+     *
+     * @param deadline the game tick at which the current stage ends
+     * @param stages   the current stage, followed by the stages still to come
+     */
+    public record Timer(long deadline, List<EffectStage> stages) {}
+}
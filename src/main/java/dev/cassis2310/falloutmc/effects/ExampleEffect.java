@@ -1,6 +1,5 @@
 package dev.cassis2310.falloutmc.effects;
 
-import net.minecraft.world.effect.MobEffect;
 import net.minecraft.world.effect.MobEffectCategory;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.phys.Vec3;
@@ -15,11 +14,14 @@ import org.jetbrains.annotations.NotNull;
  *
  * @author Cassis2310
  */
-public class ExampleEffect extends MobEffect
+public class ExampleEffect extends FalloutMcEffect
 {
+    private static final double CLIMB_SPEED = 0.2D;
+    private static final double CLIMB_FRICTION = 0.85D;
+
     public ExampleEffect(MobEffectCategory category, int color)
     {
-        super(category, color);
+        super(category, color, 1);
     }
 
     /**
@@ -37,29 +39,12 @@ public class ExampleEffect extends MobEffect
     {
         if (livingEntity.horizontalCollision)
         {
-            Vec3 initialVector = livingEntity.getDeltaMovement();
-            Vec3 climbVector = new Vec3(initialVector.x, 0.2D, initialVector.z);
-            livingEntity.setDeltaMovement(climbVector.scale(0.85D));
+            final Vec3 motion = livingEntity.getDeltaMovement();
+            livingEntity.setDeltaMovement(motion.x * CLIMB_FRICTION, CLIMB_SPEED * CLIMB_FRICTION, motion.z * CLIMB_FRICTION);
 
             return true;
         }
 
         return super.applyEffectTick(livingEntity, amplifier);
     }
-
-    /**
-     * Returns whether the effect should be applied on this tick.
-     *
-     * <p>This method will always return true, since the effect should
-     * be applied on every tick.</p>
-     *
-     * @param duration The duration of the effect.
-     * @param amplifier The amplifier of the effect.
-     * @return Whether the effect should be applied on this tick.
-     */
-    @Override
-    public boolean shouldApplyEffectTickThisTick(int duration, int amplifier)
-    {
-        return true;
-    }
 }
@@ -0,0 +1,58 @@
+package dev.cassis2310.falloutmc.effects;
+
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.effect.MobEffectCategory;
+
+/**
+ * The base class of the mod's mob effects.
+ *
+ * <p>Every effect declares how often it ticks instead of ticking every tick. The interval may depend on the
+ * amplifier, like vanilla regeneration which ticks faster at higher levels, by overriding
+ * {@link #getTickInterval(int)}. An effect with an interval of 0 never ticks, and only applies its
+ * attribute modifiers.</p>
+ *
+ * <p>Effects ticking on many entities at once should change motion through
+ * {@link net.minecraft.world.entity.Entity#setDeltaMovement(double, double, double)} rather than building
+ * intermediate vectors.</p>
+ */
+public abstract class FalloutMcEffect extends MobEffect
+{
+    private final int tickInterval;
+
+    /**
+     * @param category     the category of the effect
+     * @param color        the color of the effect particles
+     * @param tickInterval the number of ticks between two applications of the effect, or 0 to never tick
+     */
+    protected FalloutMcEffect(MobEffectCategory category, int color, int tickInterval)
+    {
+        super(category, color);
+        this.tickInterval = tickInterval;
+    }
+
+    /**
+     * Returns the number of ticks between two applications of the effect.
+     *
+     * @param amplifier the amplifier of the effect
+     * @return the interval in ticks, or 0 if the effect never ticks
+     */
+    public int getTickInterval(int amplifier)
+    {
+        return tickInterval;
+    }
+
+    /**
+     * Returns whether the effect should be applied on this tick, once every {@link #getTickInterval(int)}
+     * ticks. For effects of infinite duration, vanilla passes the entity's tick count as the duration.
+     *
+     * @param duration  the remaining duration of the effect
+     * @param amplifier the amplifier of the effect
+     * @return whether the effect should be applied on this tick
+     */
+    @Override
+    public final boolean shouldApplyEffectTickThisTick(int duration, int amplifier)
+    {
+        final int interval = getTickInterval(amplifier);
+        return interval > 0 && (interval == 1 || duration % interval == 0);
+    }
+}
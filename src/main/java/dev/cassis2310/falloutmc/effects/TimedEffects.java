@@ -0,0 +1,125 @@
+package dev.cassis2310.falloutmc.effects;
+
+import com.mojang.logging.LogUtils;
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import net.minecraft.core.Holder;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.entity.LivingEntity;
+import org.slf4j.Logger;
+
+import java.util.List;
+
+/**
+ * Applies effects in stages, such as a chem wearing off into a withdrawal debuff.
+ *
+ * <p>Each stage is applied as an ordinary effect instance lasting the stage, so the remaining time shows as
+ * usual, and vanilla merges it with instances of the same effect from other sources: a stronger or longer
+ * instance the entity already has is kept, with the stage hidden beneath it, and a weaker one is hidden
+ * beneath the stage. The end of a stage is scheduled on the level's {@link EffectScheduler}, which does no
+ * work until then, and only applies the following stage. Vanilla removes the instance of the ended stage
+ * itself, so no instance added by another source is ever removed.</p>
+ *
+ * <p>If the effect of the current stage is removed by other means, such as drinking milk, the timer is
+ * dropped and the following stages are not applied.</p>
+ */
+public class TimedEffects
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private TimedEffects()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Applies a sequence of stages to an entity, replacing any timer already running for the effect of the
+     * first stage.
+     *
+     * @param level  the level of the entity
+     * @param entity the entity
+     * @param stages the stages, applied one after the other
+     */
+    public static void apply(ServerLevel level, LivingEntity entity, List<EffectStage> stages)
+    {
+        if (stages.isEmpty())
+        {
+            return;
+        }
+
+        final EffectTimers timers = entity.getData(FalloutMcAttachments.EFFECT_TIMERS);
+        final EffectStage first = stages.getFirst();
+        for (EffectTimers.Timer timer : List.copyOf(timers.getTimers()))
+        {
+            if (timer.stages().getFirst().effect().equals(first.effect()))
+            {
+                timers.remove(timer);
+            }
+        }
+
+        if (first.duration() <= 0)
+        {
+            // Skip empty stages straight to the next one
+            apply(level, entity, stages.subList(1, stages.size()));
+            return;
+        }
+
+        entity.addEffect(new MobEffectInstance(first.effect(), first.duration(), first.amplifier()));
+
+        final EffectTimers.Timer timer = new EffectTimers.Timer(level.getGameTime() + first.duration(), List.copyOf(stages));
+        timers.add(timer);
+        level.getData(FalloutMcAttachments.EFFECT_SCHEDULER).schedule(entity, timer);
+    }
+
+    /**
+     * Schedules the timers of an entity joining a level.
+     *
+     * @param level  the level
+     * @param entity the entity
+     */
+    public static void onEntityJoined(ServerLevel level, LivingEntity entity)
+    {
+        if (entity.hasData(FalloutMcAttachments.EFFECT_TIMERS))
+        {
+            final EffectScheduler scheduler = level.getData(FalloutMcAttachments.EFFECT_SCHEDULER);
+            for (EffectTimers.Timer timer : entity.getData(FalloutMcAttachments.EFFECT_TIMERS).getTimers())
+            {
+                scheduler.schedule(entity, timer);
+            }
+        }
+    }
+
+    /**
+     * Drops the timers whose current stage applies an effect that was removed, so that the following
+     * stages are not applied either.
+     *
+     * @param entity the entity
+     * @param effect the removed effect
+     */
+    public static void onEffectRemoved(LivingEntity entity, Holder<MobEffect> effect)
+    {
+        if (entity.hasData(FalloutMcAttachments.EFFECT_TIMERS))
+        {
+            final EffectTimers timers = entity.getData(FalloutMcAttachments.EFFECT_TIMERS);
+            for (EffectTimers.Timer timer : List.copyOf(timers.getTimers()))
+            {
+                if (timer.stages().getFirst().effect().equals(effect))
+                {
+                    LOGGER.debug("Dropping the timer of {} on {}, its effect was removed", effect.getRegisteredName(), entity);
+                    timers.remove(timer);
+                }
+            }
+        }
+    }
+
+    static void onStageEnded(ServerLevel level, LivingEntity entity, EffectTimers.Timer timer)
+    {
+        if (entity.isRemoved() || entity.level() != level || !entity.getData(FalloutMcAttachments.EFFECT_TIMERS).remove(timer))
+        {
+            // Replaced or removed, or the entity has left the level and is scheduled elsewhere
+            return;
+        }
+        apply(level, entity, timer.stages().subList(1, timer.stages().size()));
+    }
+}
@@ -0,0 +1,102 @@
+package dev.cassis2310.falloutmc.events;
+
+import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import dev.cassis2310.falloutmc.datagen.datamaps.FalloutMcDataMaps;
+import dev.cassis2310.falloutmc.economy.PriceTables;
+import dev.cassis2310.falloutmc.items.ItemProfileCache;
+import dev.cassis2310.falloutmc.items.ItemWeightRegistry;
+import dev.cassis2310.falloutmc.loot.ContainerLootTables;
+import dev.cassis2310.falloutmc.network.AttributeSnapshot;
+import dev.cassis2310.falloutmc.network.DataMapSync;
+import dev.cassis2310.falloutmc.radiation.RadiationField;
+import dev.cassis2310.falloutmc.radiation.RadiationSources;
+import dev.cassis2310.falloutmc.survival.DiseaseTables;
+import dev.cassis2310.falloutmc.utils.TagSnapshots;
+import dev.cassis2310.falloutmc.utils.ValidationSuite;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.registries.datamaps.DataMapsUpdatedEvent;
+import net.neoforged.neoforge.server.ServerLifecycleHooks;
+
+/**
+ * Handles events that fire on both the logical client and the logical server.
+ */
+@EventBusSubscriber(modid = FalloutMc.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class CommonEventHandler
+{
+    /**
+     * Rebuilds every lookup table derived from the FalloutMC data maps.
+     * <p>
+     * This only handles the server (re)loading its data packs. The FalloutMC data maps are not synced by
+     * NeoForge, so clients rebuild their tables from {@link DataMapSync} payloads instead.
+     *
+     * @param event the data maps updated event
+     */
+    @SubscribeEvent
+    public static void onDataMapsUpdated(DataMapsUpdatedEvent event)
+    {
+        if (event.getCause() != DataMapsUpdatedEvent.UpdateCause.SERVER_RELOAD)
+        {
+            return;
+        }
+
+        event.ifRegistry(Registries.BLOCK, registry -> {
+            RadiationSources.rebuild();
+
+            // Loaded chunks were seeded against the previous sources
+            final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+            if (server != null)
+            {
+                RadiationField.onSourcesRebuilt(server);
+            }
+        });
+
+        event.ifRegistry(Registries.ITEM, registry -> {
+            final AttributeSnapshot snapshot = AttributeSnapshot.of(registry);
+            ItemProfileCache.rebuild(snapshot, registry.size());
+            ItemWeightRegistry.rebuild(registry);
+            DiseaseTables.rebuild(registry.size());
+            PriceTables.rebuild(registry.size());
+            ContainerLootTables.invalidate();
+            DataMapSync.stage(snapshot);
+
+            if (ValidationSuite.ENABLED)
+            {
+                FalloutMcDataMaps.logSyncPayloadSizes(registry);
+            }
+
+            // Weights may have changed, so carried weights must be recomputed once.
+            final MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+            if (server != null)
+            {
+                for (ServerPlayer player : server.getPlayerList().getPlayers())
+                {
+                    player.getData(FalloutMcAttachments.CARRY_WEIGHT).rebuild(player.getInventory());
+                }
+            }
+        });
+    }
+
+    /**
+     * Discards the cached tag snapshots and container loot once tags have reloaded, on either side, and
+     * recompiles the disease tables on the server, whose conditions are read from tags.
+     *
+     * @param event the tags updated event
+     */
+    @SubscribeEvent
+    public static void onTagsUpdated(TagsUpdatedEvent event)
+    {
+        TagSnapshots.invalidate();
+        ContainerLootTables.invalidate();
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD)
+        {
+            DiseaseTables.rebuild(BuiltInRegistries.ITEM.size());
+        }
+    }
+}
@@ -1,22 +1,19 @@
 package dev.cassis2310.falloutmc.events.client;
 
 import dev.cassis2310.falloutmc.FalloutMc;
-import dev.cassis2310.falloutmc.datagen.codecs.items.ItemAttributes;
-import dev.cassis2310.falloutmc.datagen.codecs.items.consumables.DrinkAttributes;
-import dev.cassis2310.falloutmc.datagen.codecs.items.consumables.FoodAttributes;
-import dev.cassis2310.falloutmc.datagen.codecs.items.consumables.SoupAttributes;
+import dev.cassis2310.falloutmc.client.ClientVats;
+import dev.cassis2310.falloutmc.items.ItemProfile;
+import dev.cassis2310.falloutmc.items.ItemProfileCache;
+import dev.cassis2310.falloutmc.network.DataMapSync;
 import net.minecraft.ChatFormatting;
-import net.minecraft.core.Holder;
 import net.minecraft.network.chat.Component;
-import net.minecraft.world.item.Item;
-import net.minecraft.world.item.ItemStack;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
+import net.neoforged.neoforge.client.event.ClientTickEvent;
 import net.neoforged.neoforge.event.entity.player.ItemTooltipEvent;
 
-import static dev.cassis2310.falloutmc.datagen.datamaps.FalloutMcDataMaps.*;
-
 /**
  * Handles client-side events such as item tooltips.
  */
@@ -24,6 +21,29 @@ import static dev.cassis2310.falloutmc.datagen.datamaps.FalloutMcDataMaps.*;
 public class ClientEventHandler
 {
 
+    /**
+     * Forgets the synced data maps and the VATS session when leaving a world or server.
+     *
+     * @param event the logging out event
+     */
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event)
+    {
+        DataMapSync.resetClient();
+        ClientVats.reset();
+    }
+
+    /**
+     * Handles presses of the VATS key.
+     *
+     * @param event the client tick event
+     */
+    @SubscribeEvent
+    public static void onClientTick(ClientTickEvent.Post event)
+    {
+        ClientVats.onClientTick();
+    }
+
     /**
      * Adds weight information to the tooltips of items.
      *
@@ -32,35 +52,11 @@ public class ClientEventHandler
     @SubscribeEvent
     public static void onTooltip(ItemTooltipEvent event)
     {
-        ItemStack stack = event.getItemStack();
-        Holder<Item> holder = stack.getItemHolder();
-        ItemAttributes itemData = holder.getData(ITEM_ATTRIBUTES);
-        FoodAttributes foodData = holder.getData(FOOD_ATTRIBUTES);
-        SoupAttributes soupData = holder.getData(SOUP_ATTRIBUTES);
-        DrinkAttributes drinkData = holder.getData(DRINK_ATTRIBUTES);
-
-
-        if (itemData != null)
-        {
-            event.getToolTip().add(Component.translatable("tooltip.item.weight", itemData.weight())
-                    .withStyle(ChatFormatting.GRAY));
-        }
-
-        if (foodData != null)
-        {
-            event.getToolTip().add(Component.translatable("tooltip.item.weight", foodData.weight())
-                    .withStyle(ChatFormatting.GRAY));
-        }
-
-        if (soupData != null)
-        {
-            event.getToolTip().add(Component.translatable("tooltip.item.weight", soupData.weight())
-                    .withStyle(ChatFormatting.GRAY));
-        }
+        ItemProfile profile = ItemProfileCache.get(event.getItemStack());
 
-        if (drinkData != null)
+        if (profile != null)
         {
-            event.getToolTip().add(Component.translatable("tooltip.item.weight", drinkData.weight())
+            event.getToolTip().add(Component.translatable("tooltip.item.weight", profile.weight())
                     .withStyle(ChatFormatting.GRAY));
         }
     }
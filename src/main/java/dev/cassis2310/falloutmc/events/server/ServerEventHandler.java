@@ -0,0 +1,253 @@
+package dev.cassis2310.falloutmc.events.server;
+
+import dev.cassis2310.falloutmc.Config;
+import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import dev.cassis2310.falloutmc.effects.TimedEffects;
+import dev.cassis2310.falloutmc.fire.FireSpreader;
+import dev.cassis2310.falloutmc.items.CarryWeightLedger;
+import dev.cassis2310.falloutmc.items.RecipeValueInference;
+import dev.cassis2310.falloutmc.items.custom.WeightedItem;
+import dev.cassis2310.falloutmc.radiation.RadiationField;
+import dev.cassis2310.falloutmc.survival.Consumption;
+import dev.cassis2310.falloutmc.survival.SurvivalSync;
+import dev.cassis2310.falloutmc.utils.ValidationSuite;
+import dev.cassis2310.falloutmc.vats.Vats;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.LivingEntity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.OnDatapackSyncEvent;
+import net.neoforged.neoforge.event.entity.EntityEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.entity.EntityLeaveLevelEvent;
+import net.neoforged.neoforge.event.entity.living.LivingEntityUseItemEvent;
+import net.neoforged.neoforge.event.entity.living.MobEffectEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerContainerEvent;
+import net.neoforged.neoforge.event.level.BlockEvent;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+/**
+ * Handles server-side gameplay events.
+ */
+@EventBusSubscriber(modid = FalloutMc.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class ServerEventHandler
+{
+    /**
+     * Listens to the player inventory slots of any menu other than the inventory menu.
+     * <p>
+     * The inventory menu is only broadcast while it is the open menu, so without this, changes made
+     * while a container is open would only reach the carry weight ledger once it is closed.
+     *
+     * @param event the container open event
+     */
+    @SubscribeEvent
+    public static void onContainerOpen(PlayerContainerEvent.Open event)
+    {
+        if (event.getEntity() instanceof ServerPlayer player && event.getContainer() != player.inventoryMenu)
+        {
+            event.getContainer().addSlotListener(new CarryWeightLedger.SlotListener(player));
+        }
+    }
+
+    /**
+     * Applies the attributes of consumed items. {@link WeightedItem} applies its own when it is consumed.
+     *
+     * @param event the use item finish event
+     */
+    @SubscribeEvent
+    public static void onUseItemFinish(LivingEntityUseItemEvent.Finish event)
+    {
+        if (!event.getEntity().level().isClientSide() && !(event.getItem().getItem() instanceof WeightedItem))
+        {
+            Consumption.consume(event.getEntity(), event.getItem());
+        }
+    }
+
+    /**
+     * Stops the staged effects whose current effect was removed, such as by drinking milk.
+     *
+     * @param event the effect remove event
+     */
+    @SubscribeEvent
+    public static void onEffectRemoved(MobEffectEvent.Remove event)
+    {
+        if (!event.getEntity().level().isClientSide())
+        {
+            TimedEffects.onEffectRemoved(event.getEntity(), event.getEffect());
+        }
+    }
+
+    /**
+     * Infers the weight of items without one and validates the data packs once the server has loaded them.
+     *
+     * @param event the server started event
+     */
+    @SubscribeEvent
+    public static void onServerStarted(ServerStartedEvent event)
+    {
+        RecipeValueInference.start(event.getServer());
+        ValidationSuite.performDataPackValidations(event.getServer());
+    }
+
+    /**
+     * Infers the weight of items and validates the data packs again after a reload, since recipes and
+     * data maps may have changed.
+     *
+     * @param event the data pack sync event
+     */
+    @SubscribeEvent
+    public static void onDatapackSync(OnDatapackSyncEvent event)
+    {
+        if (event.getPlayer() == null)
+        {
+            RecipeValueInference.start(event.getPlayerList().getServer());
+            ValidationSuite.performDataPackValidations(event.getPlayerList().getServer());
+        }
+    }
+
+    /**
+     * Discards the inferred weights of the stopped server.
+     *
+     * @param event the server stopped event
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event)
+    {
+        RecipeValueInference.reset();
+    }
+
+    /**
+     * Schedules radiation field updates as blocks change, since a block may emit or shield radiation.
+     *
+     * @param event the neighbor notify event, fired after a block changed
+     */
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            RadiationField.onBlockChanged(level, event.getPos(), event.getState());
+        }
+    }
+
+    /**
+     * Schedules the radiation sources of chunks to be seeded as they load, since blocks placed by world
+     * generation or before the mod was installed never notified their neighbours.
+     *
+     * @param event the chunk load event
+     */
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            RadiationField.onChunkLoaded(level, event.getChunk().getPos());
+        }
+    }
+
+    /**
+     * Stops tracking the radiation of chunks as they unload.
+     *
+     * @param event the chunk unload event
+     */
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            RadiationField.onChunkUnloaded(level, event.getChunk().getPos());
+        }
+    }
+
+    /**
+     * Registers entities that emit radiation as they join a level, and schedules the survival stats and
+     * timed effects of living entities.
+     *
+     * @param event the entity join level event
+     */
+    @SubscribeEvent
+    public static void onEntityJoinLevel(EntityJoinLevelEvent event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            RadiationField.onEntityJoined(level, event.getEntity());
+            if (event.getEntity() instanceof LivingEntity living)
+            {
+                level.getData(FalloutMcAttachments.SURVIVAL_SCHEDULER).add(living);
+                TimedEffects.onEntityJoined(level, living);
+            }
+            if (event.getEntity() instanceof ServerPlayer player)
+            {
+                SurvivalSync.onPlayerJoined(player);
+            }
+        }
+    }
+
+    /**
+     * Moves the radiation of entities that emit it as they cross into another chunk section.
+     *
+     * @param event the entering section event
+     */
+    @SubscribeEvent
+    public static void onEnteringSection(EntityEvent.EnteringSection event)
+    {
+        if (event.getEntity().level() instanceof ServerLevel level)
+        {
+            RadiationField.onEntityMoved(level, event.getEntity(), event.getNewPos());
+        }
+    }
+
+    /**
+     * Removes the radiation of entities as they leave a level, stops updating their survival stats, and
+     * ends the VATS session of players.
+     *
+     * @param event the entity leave level event
+     */
+    @SubscribeEvent
+    public static void onEntityLeaveLevel(EntityLeaveLevelEvent event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            RadiationField.onEntityLeft(level, event.getEntity());
+            if (event.getEntity() instanceof LivingEntity living)
+            {
+                level.getData(FalloutMcAttachments.SURVIVAL_SCHEDULER).remove(living);
+            }
+            if (event.getEntity() instanceof ServerPlayer player)
+            {
+                Vats.close(player);
+            }
+        }
+    }
+
+    /**
+     * Spreads pending radiation field updates, within the per tick budget, ends the timed effect stages
+     * due, updates the survival stats of the entities whose turn it is, then syncs the changes to players.
+     *
+     * @param event the level tick event
+     */
+    @SubscribeEvent
+    public static void onLevelTick(LevelTickEvent.Post event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            RadiationField.tick(level);
+            if (level.hasData(FalloutMcAttachments.FIRE_SPREADER))
+            {
+                final FireSpreader fireSpreader = level.getData(FalloutMcAttachments.FIRE_SPREADER);
+                if (!fireSpreader.isIdle())
+                {
+                    fireSpreader.tick(level, Config.fireSpreadAttemptsPerTick);
+                }
+            }
+            level.getData(FalloutMcAttachments.EFFECT_SCHEDULER).tick(level);
+            level.getData(FalloutMcAttachments.SURVIVAL_SCHEDULER).tick(level, Config.survivalTickInterval);
+            SurvivalSync.flush(level, Config.survivalSyncInterval);
+        }
+    }
+}
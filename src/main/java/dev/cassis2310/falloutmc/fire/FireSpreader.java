@@ -0,0 +1,234 @@
+package dev.cassis2310.falloutmc.fire;
+
+import dev.cassis2310.falloutmc.utils.helpers.DirectionHelpers;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Spreads fire through a level in batches, for large fires such as burning ruins.
+ *
+ * <p>A spread attempt is a short random walk from a burning block: at each step it moves one block
+ * horizontally, sometimes also one up, and stops at the first block that is not air. The first air block
+ * next to a flammable block catches fire. The walk is drawn when the attempt is queued and packed into a
+ * single long, three bits per step.</p>
+ *
+ * <p>Attempts are queued by the chunk section they start in, and processed on the level tick within a
+ * budget, section by section, so consecutive reads hit the same chunk. Flammability is read from
+ * {@link Flammability}. The blocks that catch fire during a tick are collected and set at its end, each
+ * once, however many attempts reached it.</p>
+ */
+public class FireSpreader
+{
+    /** The longest walk of a spread attempt. */
+    public static final int MAX_STEPS = 16;
+    /** The most attempts waiting at once. Spreading is random anyway, so attempts beyond it are dropped. */
+    public static final int MAX_PENDING = 1 << 16;
+
+    private static final int STEP_BITS = 3;
+    private static final int STEP_UP = 4;
+    private static final Direction[] HORIZONTAL = {Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST};
+
+    private final Long2ObjectLinkedOpenHashMap<Batch> batches = new Long2ObjectLinkedOpenHashMap<>();
+    private final LongLinkedOpenHashSet ignitions = new LongLinkedOpenHashSet();
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+    private @Nullable LevelChunk chunk;
+    private int pending;
+
+    /**
+     * Queues a spread attempt, unless {@link #MAX_PENDING} attempts are already waiting.
+     *
+     * @param origin the burning block
+     * @param random the random source drawing the walk
+     * @param radius the number of steps of the walk, at most {@link #MAX_STEPS}
+     */
+    public void enqueue(BlockPos origin, RandomSource random, int radius)
+    {
+        final int steps = Math.min(radius, MAX_STEPS);
+        if (steps <= 0 || pending >= MAX_PENDING)
+        {
+            return;
+        }
+
+        long path = 0;
+        for (int i = 0; i < steps; i++)
+        {
+            int step = random.nextInt(HORIZONTAL.length);
+            if (random.nextFloat() < 0.25F)
+            {
+                step |= STEP_UP;
+            }
+            path |= (long) step << (i * STEP_BITS);
+        }
+        batches.computeIfAbsent(SectionPos.asLong(origin), key -> new Batch()).add(origin.asLong(), path, steps);
+        pending++;
+    }
+
+    /**
+     * @return whether there are no pending spread attempts
+     */
+    public boolean isIdle()
+    {
+        return pending == 0;
+    }
+
+    /**
+     * Processes pending spread attempts, then sets the blocks that caught fire.
+     * <p>
+     * Sections take turns: each gets an equal share of the budget, and a section with attempts left over
+     * moves behind the others, so a section fed faster than the budget cannot starve the rest.
+     *
+     * @param level  the level
+     * @param budget the maximum number of attempts to process
+     */
+    public void tick(ServerLevel level, int budget)
+    {
+        if (batches.isEmpty())
+        {
+            return;
+        }
+
+        final int share = Math.max(1, budget / batches.size());
+        for (int sections = batches.size(); budget > 0 && sections > 0; sections--)
+        {
+            final long section = batches.firstLongKey();
+            final Batch batch = batches.get(section);
+            for (int quota = Math.min(share, budget); quota > 0 && batch.hasNext(); quota--)
+            {
+                walk(level, batch.origins.getLong(batch.next), batch.paths.getLong(batch.next), batch.steps.getInt(batch.next));
+                batch.next++;
+                pending--;
+                budget--;
+            }
+
+            if (batch.hasNext())
+            {
+                batch.compact();
+                batches.getAndMoveToLast(section);
+            }
+            else
+            {
+                batches.removeFirst();
+            }
+        }
+        chunk = null;
+
+        final BlockState fire = Blocks.FIRE.defaultBlockState();
+        for (LongIterator it = ignitions.iterator(); it.hasNext(); )
+        {
+            cursor.set(it.nextLong());
+            // Setting an earlier block may have updated this one since the walk found it
+            if (level.getBlockState(cursor).isAir())
+            {
+                level.setBlockAndUpdate(cursor, fire);
+            }
+        }
+        ignitions.clear();
+    }
+
+    private void walk(ServerLevel level, long origin, long path, int steps)
+    {
+        cursor.set(origin);
+        for (int i = 0; i < steps; i++)
+        {
+            final int step = (int) (path >>> (i * STEP_BITS));
+            cursor.move(HORIZONTAL[step & 3]);
+            if ((step & STEP_UP) != 0)
+            {
+                cursor.move(Direction.UP);
+            }
+
+            final BlockState state = stateAt(level, cursor);
+            // An unloaded block, a solid block, or fire set this tick ends the walk
+            if (state == null || !state.isAir() || ignitions.contains(cursor.asLong()))
+            {
+                return;
+            }
+            if (hasFlammableNeighbours(level, cursor))
+            {
+                ignitions.add(cursor.asLong());
+                return;
+            }
+        }
+    }
+
+    private boolean hasFlammableNeighbours(ServerLevel level, BlockPos pos)
+    {
+        for (Direction direction : DirectionHelpers.DIRECTIONS)
+        {
+            neighbor.setWithOffset(pos, direction);
+            final BlockState state = stateAt(level, neighbor);
+            if (state != null && Flammability.isFlammable(state, level, neighbor, direction.getOpposite()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Reads a block from the last chunk read, so walks within a section never look up their chunk twice
+    @Nullable
+    private BlockState stateAt(ServerLevel level, BlockPos pos)
+    {
+        if (level.isOutsideBuildHeight(pos))
+        {
+            return null;
+        }
+
+        final int chunkX = SectionPos.blockToSectionCoord(pos.getX());
+        final int chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+        if (chunk == null || chunk.getPos().x != chunkX || chunk.getPos().z != chunkZ)
+        {
+            chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+            if (chunk == null)
+            {
+                return null;
+            }
+        }
+        return chunk.getBlockState(pos);
+    }
+
+    /**
+     * The spread attempts queued in a chunk section, in order.
+     */
+    private static class Batch
+    {
+        private final LongArrayList origins = new LongArrayList();
+        private final LongArrayList paths = new LongArrayList();
+        private final IntArrayList steps = new IntArrayList();
+        private int next;
+
+        void add(long origin, long path, int steps)
+        {
+            this.origins.add(origin);
+            this.paths.add(path);
+            this.steps.add(steps);
+        }
+
+        boolean hasNext()
+        {
+            return next < origins.size();
+        }
+
+        // Drops the processed attempts, so a section that is never drained does not grow without bound
+        void compact()
+        {
+            origins.removeElements(0, next);
+            paths.removeElements(0, next);
+            steps.removeElements(0, next);
+            next = 0;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package dev.cassis2310.falloutmc.fire;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.Arrays;
+
+/**
+ * Whether block states are flammable, cached in a table indexed by block state id.
+ *
+ * <p>A state is asked once, through {@link BlockState#isFlammable(BlockGetter, BlockPos, Direction)}, the
+ * first time fire spread meets it, and the answer is reused for every position and face after that. Vanilla
+ * and most mods decide flammability by block alone, so the cached answer only differs for blocks that
+ * override it per position.</p>
+ *
+ * <p>Only read and written on the server thread.</p>
+ */
+public class Flammability
+{
+    private static final byte UNKNOWN = 0, FLAMMABLE = 1, NOT_FLAMMABLE = 2;
+
+    private static byte[] table = new byte[0];
+
+    private Flammability()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Returns whether a block state is flammable.
+     *
+     * @param state the block state
+     * @param level the level, used the first time the state is asked
+     * @param pos   the position of the block, used the first time the state is asked
+     * @param face  the face fire would spread from, used the first time the state is asked
+     * @return whether the state is flammable
+     */
+    public static boolean isFlammable(BlockState state, BlockGetter level, BlockPos pos, Direction face)
+    {
+        final int id = Block.getId(state);
+        byte[] table = Flammability.table;
+        if (id >= table.length)
+        {
+            table = Arrays.copyOf(table, Math.max(id + 1, Block.BLOCK_STATE_REGISTRY.size()));
+            Flammability.table = table;
+        }
+
+        byte flammable = table[id];
+        if (flammable == UNKNOWN)
+        {
+            flammable = state.isFlammable(level, pos, face) ? FLAMMABLE : NOT_FLAMMABLE;
+            table[id] = flammable;
+        }
+        return flammable == FLAMMABLE;
+    }
+}
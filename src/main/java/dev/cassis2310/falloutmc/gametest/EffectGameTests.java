@@ -0,0 +1,164 @@
+package dev.cassis2310.falloutmc.gametest;
+
+import com.mojang.logging.LogUtils;
+import com.sun.management.ThreadMXBean;
+import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.effects.ExampleEffect;
+import dev.cassis2310.falloutmc.effects.FalloutMcEffect;
+import dev.cassis2310.falloutmc.effects.FalloutMcEffects;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.effect.MobEffectCategory;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.animal.Pig;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+import org.slf4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Game tests of {@link FalloutMcEffect} and {@link ExampleEffect}.
+ *
+ * <p>{@link #exampleEffectCostPerEntity(GameTestHelper)} also measures the cost of ticking the example effect
+ * on a few hundred mobs, once applied every tick and once every {@value #SLOW_INTERVAL} ticks, and logs the
+ * time and memory allocated per entity and tick. Once warmed up, the effect must not allocate on entities in
+ * the open. Entities against a wall are given a new motion vector, which is logged but not asserted. Memory is
+ * only measured on JVMs reporting the memory allocated by a thread. Run it with the {@code gameTestServer}
+ * run configuration.</p>
+ */
+@GameTestHolder(FalloutMc.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class EffectGameTests
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final String PLATFORM = "platform";
+    private static final int MOBS = 256;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int ROUNDS = 2_000;
+    private static final int SLOW_INTERVAL = 20;
+
+    /**
+     * Checks that effects apply once every interval, and never with an interval of 0.
+     *
+     * @param helper the game test helper
+     */
+    @GameTest(template = PLATFORM)
+    public static void effectsTickOnTheirInterval(GameTestHelper helper)
+    {
+        for (int interval : new int[] {0, 1, SLOW_INTERVAL})
+        {
+            final FalloutMcEffect effect = new FalloutMcEffect(MobEffectCategory.NEUTRAL, 0, interval) {};
+            for (int duration = 0; duration < 2 * SLOW_INTERVAL; duration++)
+            {
+                final boolean expected = interval > 0 && duration % interval == 0;
+                helper.assertTrue(effect.shouldApplyEffectTickThisTick(duration, 0) == expected,
+                        "Expected an interval of " + interval + " to " + (expected ? "" : "not ") + "apply at duration " + duration);
+            }
+        }
+        helper.succeed();
+    }
+
+    /**
+     * Applies the example effect to mobs against a wall and in the open, checks that only the former climb
+     * and that the effect allocates nothing on the latter, and logs the cost per entity and tick.
+     *
+     * @param helper the game test helper
+     */
+    @GameTest(template = PLATFORM)
+    public static void exampleEffectCostPerEntity(GameTestHelper helper)
+    {
+        final FalloutMcEffect effect = (FalloutMcEffect) FalloutMcEffects.EXAMPLE_EFFECT.value();
+        final FalloutMcEffect slowEffect = new ExampleEffect(MobEffectCategory.NEUTRAL, 0)
+        {
+            @Override
+            public int getTickInterval(int amplifier)
+            {
+                return SLOW_INTERVAL;
+            }
+        };
+
+        final List<Pig> pigs = new ArrayList<>(MOBS);
+        final List<Pig> walled = new ArrayList<>(MOBS / 2);
+        final List<Pig> open = new ArrayList<>(MOBS / 2);
+        for (int i = 0; i < MOBS; i++)
+        {
+            final Pig pig = helper.spawnWithNoFreeWill(EntityType.PIG, new BlockPos(i % 16, 1, i / 16 % 16));
+            // Half of them are against a wall, so both branches of the effect are measured
+            pig.horizontalCollision = i % 2 == 0;
+            pigs.add(pig);
+            (pig.horizontalCollision ? walled : open).add(pig);
+        }
+
+        measure("every tick against a wall", effect, walled);
+        measure("every " + SLOW_INTERVAL + " ticks against a wall", slowEffect, walled);
+        assertNoAllocation(helper, "every tick", measure("every tick in the open", effect, open));
+        assertNoAllocation(helper, "every " + SLOW_INTERVAL + " ticks", measure("every " + SLOW_INTERVAL + " ticks in the open", slowEffect, open));
+
+        for (int i = 0; i < MOBS; i++)
+        {
+            final boolean climbing = pigs.get(i).getDeltaMovement().y > 0;
+            helper.assertTrue(climbing == pigs.get(i).horizontalCollision,
+                    "Expected only entities against a wall to climb, but entity " + i + (climbing ? " climbed" : " did not"));
+        }
+        helper.succeed();
+    }
+
+    // Less than a byte per entity and tick is the measurement itself, not the effect
+    private static void assertNoAllocation(GameTestHelper helper, String name, double bytes)
+    {
+        if (!Double.isNaN(bytes))
+        {
+            helper.assertTrue(bytes < 1, "Expected the example effect applied " + name + " to allocate nothing in the open, but it allocated "
+                    + String.format("%.1f", bytes) + " bytes per entity and tick");
+        }
+    }
+
+    // Returns the bytes allocated per entity and tick, or NaN if the JVM does not report them
+    private static double measure(String name, FalloutMcEffect effect, List<? extends LivingEntity> entities)
+    {
+        apply(effect, entities, WARMUP_ROUNDS);
+
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean && bean.isThreadAllocatedMemorySupported()
+                && bean.isThreadAllocatedMemoryEnabled() ? bean : null;
+        final long thread = Thread.currentThread().threadId();
+        final long allocatedBefore = threads != null ? threads.getThreadAllocatedBytes(thread) : 0;
+        final long start = System.nanoTime();
+        apply(effect, entities, ROUNDS);
+        final long nanos = System.nanoTime() - start;
+        final long allocatedAfter = threads != null ? threads.getThreadAllocatedBytes(thread) : 0;
+
+        final double samples = (double) entities.size() * ROUNDS;
+        if (threads == null)
+        {
+            LOGGER.info("Example effect applied {}: {} ns per entity and tick, over {} entities and {} ticks (allocations are not reported by this JVM)",
+                    name, String.format("%.1f", nanos / samples), entities.size(), ROUNDS);
+            return Double.NaN;
+        }
+
+        final double bytes = (allocatedAfter - allocatedBefore) / samples;
+        LOGGER.info("Example effect applied {}: {} ns and {} bytes per entity and tick, over {} entities and {} ticks",
+                name, String.format("%.1f", nanos / samples), String.format("%.1f", bytes), entities.size(), ROUNDS);
+        return bytes;
+    }
+
+    // Ticks the effect the way MobEffectInstance does, counting the duration down
+    private static void apply(FalloutMcEffect effect, List<? extends LivingEntity> entities, int rounds)
+    {
+        for (int round = 0; round < rounds; round++)
+        {
+            final int duration = rounds - round;
+            for (int i = 0; i < entities.size(); i++)
+            {
+                if (effect.shouldApplyEffectTickThisTick(duration, 0))
+                {
+                    effect.applyEffectTick(entities.get(i), 0);
+                }
+            }
+        }
+    }
+}
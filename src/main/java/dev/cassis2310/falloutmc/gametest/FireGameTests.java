@@ -0,0 +1,127 @@
+package dev.cassis2310.falloutmc.gametest;
+
+import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.fire.FireSpreader;
+import dev.cassis2310.falloutmc.utils.helpers.DirectionHelpers;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Blocks;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+/**
+ * Game tests of the {@link FireSpreader}.
+ *
+ * <p>Each test drives its own spreader rather than the level's, so attempts queued by other fires do not
+ * count against its budget.</p>
+ *
+ * <p>The {@value #PLATFORM} template is 16 by 4 by 16 blocks with a stone floor, and a walk climbs at most one
+ * block per step, so the walks are kept to {@value #RADIUS} steps to stay within it. Every test puts out the
+ * fires it set before succeeding, so they never spread into neighbouring tests.</p>
+ */
+@GameTestHolder(FalloutMc.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class FireGameTests
+{
+    private static final String PLATFORM = "platform";
+    private static final int WALL_X = 8;
+    private static final BlockPos ORIGIN = new BlockPos(WALL_X - 1, 1, 8);
+    private static final int HEIGHT = 4;
+    // Walks start one block above the floor, so this many steps reach the top of the template at most
+    private static final int RADIUS = HEIGHT - 2;
+
+    /**
+     * Queues attempts next to a wall of planks on a stone floor, and checks that fire is only set next to
+     * the planks.
+     *
+     * @param helper the game test helper
+     */
+    @GameTest(template = PLATFORM)
+    public static void fireSpreadsNextToFlammableBlocks(GameTestHelper helper)
+    {
+        buildWall(helper);
+
+        final FireSpreader spreader = new FireSpreader();
+        final RandomSource random = RandomSource.create(0);
+        for (int i = 0; i < 64; i++)
+        {
+            spreader.enqueue(helper.absolutePos(ORIGIN), random, RADIUS);
+        }
+        while (!spreader.isIdle())
+        {
+            spreader.tick(helper.getLevel(), 256);
+        }
+
+        int fires = 0;
+        for (BlockPos pos : BlockPos.betweenClosed(0, 1, 0, 15, HEIGHT - 1, 15))
+        {
+            if (helper.getBlockState(pos).is(Blocks.FIRE))
+            {
+                helper.assertTrue(nextToPlanks(helper, pos), "Expected fire only next to planks, but found some at " + pos);
+                fires++;
+            }
+        }
+        helper.assertTrue(fires > 0, "Expected fire to spread onto the planks");
+        clearFire(helper);
+        helper.succeed();
+    }
+
+    /**
+     * Checks that a tick processes no more attempts than its budget.
+     *
+     * @param helper the game test helper
+     */
+    @GameTest(template = PLATFORM)
+    public static void fireSpreadKeepsToTheBudget(GameTestHelper helper)
+    {
+        final FireSpreader spreader = new FireSpreader();
+        final RandomSource random = RandomSource.create(0);
+        for (int i = 0; i < 8; i++)
+        {
+            spreader.enqueue(helper.absolutePos(ORIGIN), random, RADIUS);
+        }
+
+        spreader.tick(helper.getLevel(), 4);
+        helper.assertFalse(spreader.isIdle(), "Expected attempts beyond the budget to wait for the next tick");
+        spreader.tick(helper.getLevel(), 4);
+        helper.assertTrue(spreader.isIdle(), "Expected every attempt to be processed within two budgets");
+        clearFire(helper);
+        helper.succeed();
+    }
+
+    private static void buildWall(GameTestHelper helper)
+    {
+        for (int z = 0; z < 16; z++)
+        {
+            helper.setBlock(WALL_X, 1, z, Blocks.OAK_PLANKS);
+            helper.setBlock(WALL_X, 2, z, Blocks.OAK_PLANKS);
+        }
+    }
+
+    private static void clearFire(GameTestHelper helper)
+    {
+        for (BlockPos pos : BlockPos.betweenClosed(0, 1, 0, 15, HEIGHT - 1, 15))
+        {
+            if (helper.getBlockState(pos).is(Blocks.FIRE))
+            {
+                helper.setBlock(pos, Blocks.AIR);
+            }
+        }
+    }
+
+    private static boolean nextToPlanks(GameTestHelper helper, BlockPos pos)
+    {
+        for (Direction direction : DirectionHelpers.DIRECTIONS)
+        {
+            if (helper.getBlockState(pos.relative(direction)).is(BlockTags.PLANKS))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,159 @@
+package dev.cassis2310.falloutmc.items;
+
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Keeps a running total of the weight a player is carrying.
+ *
+ * <p>The ledger remembers the weight each inventory slot contributed the last time it changed. When a slot
+ * changes, only the difference between the old and the new contribution is applied to the total, so both
+ * reading and updating the carried weight are O(1) and the inventory is never rescanned on tick.</p>
+ *
+ * <p>Slot changes are delivered by {@link SlotListener}, which is attached to the player's inventory menu
+ * (see {@code InventoryMenuMixin}) and to every other menu the player opens.</p>
+ */
+public class CarryWeightLedger
+{
+    /** Main inventory, armor and offhand slots of a vanilla {@link Inventory}. */
+    private static final int DEFAULT_SLOTS = Inventory.INVENTORY_SIZE + 4 + 1;
+
+    private double[] slotWeights = new double[DEFAULT_SLOTS];
+    private double totalWeight;
+    private boolean dirty = true;
+
+    /**
+     * Returns the carried weight of the given player.
+     *
+     * @param player the player
+     * @return the total weight of the player's inventory
+     */
+    public static double getCarryWeight(Player player)
+    {
+        return player.getData(FalloutMcAttachments.CARRY_WEIGHT).getTotalWeight();
+    }
+
+    /**
+     * @return the total weight of every tracked slot
+     */
+    public double getTotalWeight()
+    {
+        return totalWeight;
+    }
+
+    /**
+     * Updates the contribution of a single inventory slot.
+     *
+     * @param inventorySlot the slot index within the player's {@link Inventory}
+     * @param stack         the new content of the slot
+     */
+    public void onSlotChanged(int inventorySlot, ItemStack stack)
+    {
+        if (inventorySlot >= slotWeights.length)
+        {
+            // Modded inventories may be larger than the vanilla one.
+            slotWeights = Arrays.copyOf(slotWeights, inventorySlot + 1);
+        }
+
+        final double weight = ItemWeightRegistry.getWeight(stack);
+        if (weight != slotWeights[inventorySlot])
+        {
+            totalWeight += weight - slotWeights[inventorySlot];
+            slotWeights[inventorySlot] = weight;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Recomputes every slot from scratch. This is only needed when item weights themselves change.
+     *
+     * @param inventory the inventory to read
+     */
+    public void rebuild(Inventory inventory)
+    {
+        final int size = inventory.getContainerSize();
+        if (size > slotWeights.length)
+        {
+            slotWeights = new double[size];
+        }
+
+        Arrays.fill(slotWeights, 0);
+        totalWeight = 0;
+        dirty = true;
+        for (int slot = 0; slot < size; slot++)
+        {
+            onSlotChanged(slot, inventory.getItem(slot));
+        }
+    }
+
+    /**
+     * @return whether the total weight changed since it was last synced to the client
+     */
+    public boolean isDirty()
+    {
+        return dirty;
+    }
+
+    /**
+     * Marks the total weight as synced, or as needing a sync.
+     *
+     * @param dirty whether the total weight must be synced again
+     */
+    public void setDirty(boolean dirty)
+    {
+        this.dirty = dirty;
+    }
+
+    /**
+     * Replaces the total weight with the one synced from the server. Only used on the client, which does not
+     * track slots itself.
+     *
+     * @param totalWeight the total weight
+     */
+    public void setSyncedWeight(double totalWeight)
+    {
+        this.totalWeight = totalWeight;
+    }
+
+    /**
+     * A {@link ContainerListener} that forwards changes of player inventory slots to the player's ledger.
+     *
+     * <p>Menus expose the player inventory under their own slot indices, so each changed menu slot is mapped
+     * back onto its {@link Inventory} index. Updates are idempotent, which makes it safe to listen to several
+     * menus at once.</p>
+     */
+    public static class SlotListener implements ContainerListener
+    {
+        private final ServerPlayer player;
+
+        public SlotListener(ServerPlayer player)
+        {
+            this.player = player;
+        }
+
+        @Override
+        public void slotChanged(@NotNull AbstractContainerMenu menu, int slotIndex, @NotNull ItemStack stack)
+        {
+            final Slot slot = menu.getSlot(slotIndex);
+            if (slot.container == player.getInventory())
+            {
+                player.getData(FalloutMcAttachments.CARRY_WEIGHT).onSlotChanged(slot.getContainerSlot(), stack);
+            }
+        }
+
+        @Override
+        public void dataChanged(@NotNull AbstractContainerMenu menu, int dataSlotIndex, int value)
+        {
+            // Data slots never hold items.
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package dev.cassis2310.falloutmc.items;
 
 import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.blocks.FalloutMcBlocks;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.CreativeModeTab;
@@ -35,7 +36,7 @@ public class FalloutMcCreativeModeTabs
      * This tab is registered automatically when the mod is initialized.
      * <p>
      * The tab is named "falloutmc_consumables_tab", and it displays the items
-     * registered by the mod.
+     * registered by the mod, and the block items of its loot containers.
      * <p>
      * The tab is translated using the "creativetab.falloutmc.consumables" key.
      */
@@ -46,6 +47,9 @@ public class FalloutMcCreativeModeTabs
                     .title(Component.translatable("creativetab.falloutmc.consumables"))
                     .displayItems((itemDisplayParameters, output) -> {
                         output.accept(FalloutMcItems.NUKA_COLA.get());
+                        output.accept(FalloutMcBlocks.FOOTLOCKER.get());
+                        output.accept(FalloutMcBlocks.TOOLBOX.get());
+                        output.accept(FalloutMcBlocks.FRIDGE.get());
                     })
                     .build()
     );
@@ -0,0 +1,83 @@
+package dev.cassis2310.falloutmc.items;
+
+import dev.cassis2310.falloutmc.datagen.codecs.effects.EffectWithDuration;
+import dev.cassis2310.falloutmc.datagen.datamaps.FalloutMcDataMaps;
+import net.minecraft.world.effect.MobEffect;
+
+import java.util.List;
+
+/**
+ * The resolved attributes of an item, combined from all six FalloutMC data maps.
+ *
+ * <p>Profiles are built once per data map (re)load by {@link ItemProfileCache}, so gameplay and rendering
+ * code can read every attribute of an item with a single lookup instead of querying each data map.</p>
+ *
+ * <p>When an item appears in several data maps, scalar values from the later map win, following the order
+ * item, food, soup, drink, chem and miscellaneous. Effect lists are concatenated and flags are combined.</p>
+ *
+ * @param sources        A bit mask of the data maps the item appears in, see the {@code SOURCE_*} constants.
+ * @param weight         The item's weight.
+ * @param value          The item's monetary value.
+ * @param radiation      The radiation received when consuming the item.
+ * @param hpRestore      The health points restored when consuming the item.
+ * @param apBoost        The action points restored when consuming the item.
+ * @param hungerRestore  The hunger points replenished when consuming the item.
+ * @param thirstRestore  The thirst points replenished when consuming the item.
+ * @param effects        The beneficial effects granted by the item.
+ * @param deceaseEffects The adverse effects that might occur upon consumption.
+ * @param deceaseChance  The probability of experiencing adverse effects after consumption.
+ * @param addiction      Whether consuming the item causes addiction.
+ * @param recipe         Whether the item can be used in crafting recipes.
+ * @param plantable      Whether the item can be planted.
+ */
+public record ItemProfile(int sources, double weight, int value, int radiation, int hpRestore, int apBoost, int hungerRestore, int thirstRestore,
+                          List<EffectWithDuration> effects, List<MobEffect> deceaseEffects, int deceaseChance, boolean addiction, boolean recipe, boolean plantable)
+{
+    /** The item has a {@link FalloutMcDataMaps#ITEM_ATTRIBUTES} entry. */
+    public static final int SOURCE_ITEM = 1;
+    /** The item has a {@link FalloutMcDataMaps#FOOD_ATTRIBUTES} entry. */
+    public static final int SOURCE_FOOD = 1 << 1;
+    /** The item has a {@link FalloutMcDataMaps#SOUP_ATTRIBUTES} entry. */
+    public static final int SOURCE_SOUP = 1 << 2;
+    /** The item has a {@link FalloutMcDataMaps#DRINK_ATTRIBUTES} entry. */
+    public static final int SOURCE_DRINK = 1 << 3;
+    /** The item has a {@link FalloutMcDataMaps#CHEM_ATTRIBUTES} entry. */
+    public static final int SOURCE_CHEM = 1 << 4;
+    /** The item has a {@link FalloutMcDataMaps#MISCELLANEOUS_ATTRIBUTES} entry. */
+    public static final int SOURCE_MISCELLANEOUS = 1 << 5;
+
+    /** The item has no data map entry; its weight and value were inferred from its recipes by {@link RecipeValueInference}. */
+    public static final int SOURCE_INFERRED = 1 << 6;
+
+    /** Any of the consumable data maps. */
+    public static final int SOURCE_CONSUMABLE = SOURCE_FOOD | SOURCE_SOUP | SOURCE_DRINK | SOURCE_CHEM | SOURCE_MISCELLANEOUS;
+
+    /**
+     * @param source one of the {@code SOURCE_*} constants
+     * @return whether the item has an entry in the given data map
+     */
+    public boolean hasSource(int source)
+    {
+        return (sources & source) != 0;
+    }
+
+    /**
+     * Creates the profile of an item whose attributes were inferred from its recipes.
+     *
+     * @param weight the inferred weight
+     * @param value  the inferred value, or -1 if it could not be inferred
+     * @return a profile with no other attributes
+     */
+    public static ItemProfile inferred(double weight, int value)
+    {
+        return new ItemProfile(SOURCE_INFERRED, weight, value, 0, 0, 0, 0, 0, List.of(), List.of(), 0, false, false, false);
+    }
+
+    /**
+     * @return whether the item has an entry in any of the consumable data maps
+     */
+    public boolean isConsumable()
+    {
+        return hasSource(SOURCE_CONSUMABLE);
+    }
+}
@@ -0,0 +1,234 @@
+package dev.cassis2310.falloutmc.items;
+
+import dev.cassis2310.falloutmc.datagen.codecs.effects.EffectWithDuration;
+import dev.cassis2310.falloutmc.datagen.codecs.items.ItemAttributes;
+import dev.cassis2310.falloutmc.datagen.codecs.items.consumables.*;
+import dev.cassis2310.falloutmc.network.AttributeSnapshot;
+import dev.cassis2310.falloutmc.utils.helpers.ListHelpers;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.registries.datamaps.DataMapType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static dev.cassis2310.falloutmc.datagen.datamaps.FalloutMcDataMaps.*;
+
+/**
+ * Holds the resolved {@link ItemProfile} of every item, indexed by registry id.
+ *
+ * <p>The cache is rebuilt whenever the data maps are (re)loaded. Each data map is walked once, and the
+ * results are merged into one profile per item and published as a single array.</p>
+ *
+ * <p>Items without any data map entry fall back to the profiles inferred from their recipes by
+ * {@link RecipeValueInference}, which are published as a second array. It is kept apart so that reloading
+ * the data maps, which happens on the client as well, never discards the inferred profiles. Clients of a
+ * dedicated server receive the inferred profiles with an {@code InferredProfilesPayload}.</p>
+ */
+public class ItemProfileCache
+{
+    private static volatile ItemProfile[] profiles = new ItemProfile[0];
+    private static volatile ItemProfile[] inferred = new ItemProfile[0];
+
+    private ItemProfileCache()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Returns the profile of an item.
+     *
+     * @param item the item
+     * @return the profile, or {@code null} if the item has no entry in any FalloutMC data map
+     *         and none could be inferred
+     */
+    @Nullable
+    public static ItemProfile get(Item item)
+    {
+        return byId(BuiltInRegistries.ITEM.getId(item));
+    }
+
+    /**
+     * Returns the profile of the item with the given registry id.
+     *
+     * @param id the registry id of the item
+     * @return the profile, or {@code null} if the item has no entry in any FalloutMC data map
+     *         and none could be inferred
+     */
+    @Nullable
+    public static ItemProfile byId(int id)
+    {
+        final ItemProfile profile = explicitById(id);
+        if (profile != null)
+        {
+            return profile;
+        }
+        final ItemProfile[] table = inferred;
+        return id >= 0 && id < table.length ? table[id] : null;
+    }
+
+    /**
+     * Returns the profile of the item with the given registry id, ignoring inferred profiles.
+     *
+     * @param id the registry id of the item
+     * @return the profile, or {@code null} if the item has no entry in any FalloutMC data map
+     */
+    @Nullable
+    public static ItemProfile explicitById(int id)
+    {
+        final ItemProfile[] table = profiles;
+        return id >= 0 && id < table.length ? table[id] : null;
+    }
+
+    /**
+     * Replaces every inferred profile at once.
+     *
+     * @param table the inferred profiles, indexed by item registry id
+     */
+    public static void publishInferred(ItemProfile[] table)
+    {
+        inferred = table;
+    }
+
+    /**
+     * Returns every inferred profile.
+     *
+     * @return the inferred profiles, indexed by item registry id
+     */
+    public static ItemProfile[] inferred()
+    {
+        return inferred;
+    }
+
+    /**
+     * Returns the profile of the item in a stack.
+     *
+     * @param stack the stack
+     * @return the profile, or {@code null} if the item has no entry in any FalloutMC data map
+     *         and none could be inferred
+     */
+    @Nullable
+    public static ItemProfile get(ItemStack stack)
+    {
+        return stack.isEmpty() ? null : get(stack.getItem());
+    }
+
+    /**
+     * Rebuilds every profile from a snapshot of the data maps.
+     * <p>
+     * The server uses a snapshot of its registry, and the client its mirror of the server's data maps,
+     * since they are not synced by NeoForge.
+     *
+     * @param snapshot the data maps, keyed by item registry id
+     * @param size     the size of the item registry
+     */
+    public static void rebuild(AttributeSnapshot snapshot, int size)
+    {
+        final Builder[] builders = new Builder[size];
+
+        merge(snapshot, builders, ITEM_ATTRIBUTES, (builder, data) -> builder.merge(ItemProfile.SOURCE_ITEM, data.weight(), data.value()));
+        merge(snapshot, builders, FOOD_ATTRIBUTES, (builder, data) -> builder.merge(ItemProfile.SOURCE_FOOD, data.weight(), data.value())
+                .restores(data.radiation(), data.hpRestore(), 0, data.hungerRestore(), data.thirstRestore())
+                .effects(data.effects(), data.deceaseEffects(), data.deceaseChance())
+                .flags(data.addiction(), data.recipe(), data.plantable()));
+        merge(snapshot, builders, SOUP_ATTRIBUTES, (builder, data) -> builder.merge(ItemProfile.SOURCE_SOUP, data.weight(), data.value())
+                .restores(data.radiation(), data.hpRestore(), 0, data.hungerRestore(), data.thirstRestore())
+                .effects(data.effects(), data.deceaseEffects(), data.deceaseChance())
+                .flags(false, data.recipe(), false));
+        merge(snapshot, builders, DRINK_ATTRIBUTES, (builder, data) -> builder.merge(ItemProfile.SOURCE_DRINK, data.weight(), data.value())
+                .restores(data.radiation(), data.hpRestore(), data.apBoost(), 0, data.thirstRestore())
+                .effects(data.effects(), data.deceaseEffects(), data.deceaseChance())
+                .flags(data.addiction(), data.recipe(), false));
+        merge(snapshot, builders, CHEM_ATTRIBUTES, (builder, data) -> builder.merge(ItemProfile.SOURCE_CHEM, data.weight(), data.value())
+                .restores(0, 0, 0, data.hungerRestore(), data.thirstRestore())
+                .effects(data.effects(), List.of(), 0)
+                .flags(data.addiction(), data.recipe(), false));
+        merge(snapshot, builders, MISCELLANEOUS_ATTRIBUTES, (builder, data) -> builder.merge(ItemProfile.SOURCE_MISCELLANEOUS, data.weight(), data.value())
+                .restores(data.radiation(), 0, 0, 0, 0)
+                .effects(data.effects(), List.of(), 0)
+                .flags(data.addiction(), false, false));
+
+        final ItemProfile[] table = new ItemProfile[builders.length];
+        for (int id = 0; id < table.length; id++)
+        {
+            if (builders[id] != null)
+            {
+                table[id] = builders[id].build();
+            }
+        }
+        profiles = table;
+    }
+
+    private static <A> void merge(AttributeSnapshot snapshot, Builder[] builders, DataMapType<Item, A> type, BiConsumer<Builder, A> merger)
+    {
+        for (Int2ObjectMap.Entry<A> entry : snapshot.get(type).int2ObjectEntrySet())
+        {
+            final int id = entry.getIntKey();
+            if (id >= 0 && id < builders.length)
+            {
+                if (builders[id] == null)
+                {
+                    builders[id] = new Builder();
+                }
+                merger.accept(builders[id], entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Accumulates the entries of a single item while the cache is rebuilt.
+     */
+    private static class Builder
+    {
+        private int sources;
+        private double weight;
+        private int value, radiation, hpRestore, apBoost, hungerRestore, thirstRestore, deceaseChance;
+        private List<EffectWithDuration> effects = List.of();
+        private List<MobEffect> deceaseEffects = List.of();
+        private boolean addiction, recipe, plantable;
+
+        Builder merge(int source, double weight, int value)
+        {
+            this.sources |= source;
+            this.weight = weight;
+            this.value = value;
+            return this;
+        }
+
+        Builder restores(int radiation, int hpRestore, int apBoost, int hungerRestore, int thirstRestore)
+        {
+            this.radiation = radiation;
+            this.hpRestore = hpRestore;
+            this.apBoost = Math.max(this.apBoost, apBoost);
+            this.hungerRestore = hungerRestore;
+            this.thirstRestore = thirstRestore;
+            return this;
+        }
+
+        Builder effects(List<EffectWithDuration> effects, List<MobEffect> deceaseEffects, int deceaseChance)
+        {
+            this.effects = this.effects.isEmpty() ? effects : ListHelpers.immutableAddAll(this.effects, effects);
+            this.deceaseEffects = this.deceaseEffects.isEmpty() ? deceaseEffects : ListHelpers.immutableAddAll(this.deceaseEffects, deceaseEffects);
+            this.deceaseChance = Math.max(this.deceaseChance, deceaseChance);
+            return this;
+        }
+
+        Builder flags(boolean addiction, boolean recipe, boolean plantable)
+        {
+            this.addiction |= addiction;
+            this.recipe |= recipe;
+            this.plantable |= plantable;
+            return this;
+        }
+
+        ItemProfile build()
+        {
+            return new ItemProfile(sources, weight, value, radiation, hpRestore, apBoost, hungerRestore, thirstRestore,
+                    effects, deceaseEffects, deceaseChance, addiction, recipe, plantable);
+        }
+    }
+}
@@ -1,24 +1,108 @@
 package dev.cassis2310.falloutmc.items;
 
+import dev.cassis2310.falloutmc.datagen.datamaps.FalloutMcDataMaps;
+import dev.cassis2310.falloutmc.items.custom.WeightedItem;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 
-import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Resolves the weight of items.
+ *
+ * <p>Weights are kept in a dense {@code double[]} indexed by the item's registry id. The table is rebuilt
+ * from the {@link ItemProfileCache} every time the data maps are (re)loaded, so a lookup is a single array
+ * read with no hashing of the item and no boxing.</p>
+ *
+ * <p>Weights are resolved in the following order, later sources overriding earlier ones:</p>
+ * <ol>
+ *   <li>the built-in defaults below,</li>
+ *   <li>the default weight of a {@link WeightedItem},</li>
+ *   <li>the resolved {@link ItemProfile}, combined from {@link FalloutMcDataMaps#ITEM_ATTRIBUTES}
+ *       and the consumable data maps.</li>
+ * </ol>
+ *
+ * <p>Items with none of these fall back to the weight inferred from their recipes by
+ * {@link RecipeValueInference}, or 0.</p>
+ */
 public class ItemWeightRegistry
 {
-    private static final Map<Item, Double> itemWeights = new HashMap<>();
-
-    static {
-        // Assign weights for vanilla items
-        itemWeights.put(Items.APPLE, 0.1);
-        itemWeights.put(Items.STONE, 0.5);
-        itemWeights.put(Items.DIAMOND, 1.0);
-        // Add more items and their weights as needed
+    // Assign weights for vanilla items, only read while the table is rebuilt
+    private static final Map<Item, Double> DEFAULT_WEIGHTS = Map.of(
+            Items.APPLE, 0.1,
+            Items.STONE, 0.5,
+            Items.DIAMOND, 1.0
+    );
+
+    private static volatile double[] weights = new double[0];
+
+    /**
+     * Returns the weight of a single item.
+     *
+     * @param item the item
+     * @return the weight of the item, or 0 if it has none
+     */
+    public static double weightOf(Item item) {
+        final double[] table = weights;
+        final int id = BuiltInRegistries.ITEM.getId(item);
+        if (id >= 0 && id < table.length) {
+            return table[id];
+        }
+        return item instanceof WeightedItem weightedItem ? weightedItem.getWeight() : 0; // Table not built yet
+    }
+
+    /**
+     * Returns the total weight of a stack.
+     *
+     * @param stack the stack to weigh
+     * @return the weight of a single item multiplied by the stack size, or 0 for an empty stack
+     */
+    public static double getWeight(ItemStack stack) {
+        if (stack.isEmpty()) {
+            return 0;
+        }
+        return weightOf(stack.getItem()) * stack.getCount();
+    }
+
+    /**
+     * Rebuilds the weight table from the current contents of the item registry.
+     * {@link ItemProfileCache} must have been rebuilt first.
+     *
+     * @param registry the item registry
+     */
+    public static void rebuild(Registry<Item> registry) {
+        final double[] table = new double[registry.size()];
+        for (int id = 0; id < table.length; id++) {
+            final double weight = explicitWeight(id, registry.byId(id));
+            if (Double.isNaN(weight)) {
+                final ItemProfile profile = ItemProfileCache.byId(id);
+                table[id] = profile != null ? profile.weight() : 0;
+            } else {
+                table[id] = weight;
+            }
+        }
+        weights = table;
     }
 
-    public static Double getWeight(Item item) {
-        return itemWeights.getOrDefault(item, 0.0); // Default weight if not set
+    /**
+     * Returns the weight of an item from any source other than recipe inference.
+     *
+     * @param id   the registry id of the item
+     * @param item the item
+     * @return the weight, or {@link Double#NaN} if the item has no explicit weight
+     */
+    public static double explicitWeight(int id, Item item) {
+        final ItemProfile profile = ItemProfileCache.explicitById(id);
+        if (profile != null) {
+            return profile.weight();
+        } else if (item instanceof WeightedItem weightedItem) {
+            return weightedItem.getWeight();
+        } else if (item != null && DEFAULT_WEIGHTS.containsKey(item)) {
+            return DEFAULT_WEIGHTS.get(item);
+        }
+        return Double.NaN;
     }
 }
@@ -0,0 +1,300 @@
+package dev.cassis2310.falloutmc.items;
+
+import com.mojang.logging.LogUtils;
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import dev.cassis2310.falloutmc.economy.PriceTables;
+import dev.cassis2310.falloutmc.loot.ContainerLootTables;
+import dev.cassis2310.falloutmc.network.InferredProfilesPayload;
+import dev.cassis2310.falloutmc.utils.ValidationSuite;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.Util;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.neoforged.neoforge.network.PacketDistributor;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.cassis2310.falloutmc.FalloutMc.MOD_NAME;
+
+/**
+ * Infers the weight and value of items that have none from the recipes that produce them.
+ *
+ * <p>The recipes are flattened into registry ids on the server thread, then the recipe graph is walked on a
+ * background thread. An item's weight is the lightest, and its value the cheapest, of its recipes, each
+ * recipe costing the sum of its ingredients divided by the number of items it crafts. For an ingredient
+ * accepting several items, the lightest and cheapest of them are used.</p>
+ *
+ * <p>Items are resolved by iterating to a fixed point: every pass recomputes each crafted item from the
+ * current estimates of its ingredients, until a pass improves none of them. A recipe with an unresolved
+ * ingredient is skipped until that ingredient resolves, so items in a cycle, such as ingots and nuggets,
+ * resolve as soon as any way into the cycle does, whatever order they are visited in. Recipes that craft
+ * more than they consume in a loop would keep lowering their estimates, so the passes are capped at
+ * {@link #MAX_PASSES}. Once done, the inferred profiles are published to {@link ItemProfileCache} as a
+ * single array on the server thread.</p>
+ */
+public class RecipeValueInference
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** The most passes over the recipe graph, bounding inference on recipe loops that never settle. */
+    public static final int MAX_PASSES = 64;
+
+    // Improvements smaller than this are rounding noise, and do not warrant another pass
+    private static final double EPSILON = 1.0E-9;
+
+    // Incremented by every run, so that a run finishing after a newer one started is discarded
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    private RecipeValueInference()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Infers the weight and value of items from the server's current recipes, off the server thread.
+     * Must be called on the server thread, once the recipes and data maps are loaded.
+     *
+     * @param server the server
+     */
+    public static void start(MinecraftServer server)
+    {
+        final int generation = GENERATION.incrementAndGet();
+        final Graph graph = Graph.of(server.getRecipeManager().getRecipes(), server.registryAccess());
+
+        CompletableFuture.supplyAsync(graph::resolve, Util.backgroundExecutor())
+                .whenComplete((table, error) -> {
+                    if (error != null)
+                    {
+                        LOGGER.error("[{}]: Failed to infer item weights from recipes", MOD_NAME, error);
+                        return;
+                    }
+                    server.execute(() -> publish(server, generation, table));
+                });
+    }
+
+    /**
+     * Discards the inferred profiles and any run still in progress. Called when the server stops.
+     */
+    public static void reset()
+    {
+        GENERATION.incrementAndGet();
+        ItemProfileCache.publishInferred(new ItemProfile[0]);
+    }
+
+    private static void publish(MinecraftServer server, int generation, ItemProfile[] table)
+    {
+        if (generation != GENERATION.get())
+        {
+            return;
+        }
+
+        ItemProfileCache.publishInferred(table);
+        ItemWeightRegistry.rebuild(BuiltInRegistries.ITEM);
+        PriceTables.rebuild(BuiltInRegistries.ITEM.size());
+        ContainerLootTables.invalidate();
+        PacketDistributor.sendToAllPlayers(new InferredProfilesPayload(table));
+        for (ServerPlayer player : server.getPlayerList().getPlayers())
+        {
+            player.getData(FalloutMcAttachments.CARRY_WEIGHT).rebuild(player.getInventory());
+        }
+
+        final long count = Arrays.stream(table).filter(profile -> profile != null).count();
+        LOGGER.info("[{}]: Inferred the weight of {} items from their recipes", MOD_NAME, count);
+
+        ValidationSuite.performServerValidations(server);
+    }
+
+    /**
+     * The recipe graph, keyed by item registry id.
+     */
+    private static class Graph
+    {
+        private final Int2ObjectMap<List<Node>> recipes;
+        private final double[] weights;
+        private final double[] values;
+
+        private Graph(Int2ObjectMap<List<Node>> recipes, double[] weights, double[] values)
+        {
+            this.recipes = recipes;
+            this.weights = weights;
+            this.values = values;
+        }
+
+        /**
+         * Flattens the recipes and the explicit weights and values. Reads tags and registries, so it must
+         * run on the server thread.
+         */
+        static Graph of(Iterable<RecipeHolder<?>> holders, RegistryAccess registryAccess)
+        {
+            final int size = BuiltInRegistries.ITEM.size();
+            final double[] weights = new double[size];
+            final double[] values = new double[size];
+            for (int id = 0; id < size; id++)
+            {
+                final ItemProfile profile = ItemProfileCache.explicitById(id);
+                weights[id] = ItemWeightRegistry.explicitWeight(id, BuiltInRegistries.ITEM.byId(id));
+                values[id] = profile != null && profile.value() >= 0 ? profile.value() : Double.NaN;
+            }
+
+            final Int2ObjectMap<List<Node>> recipes = new Int2ObjectOpenHashMap<>();
+            for (RecipeHolder<?> holder : holders)
+            {
+                final Recipe<?> recipe = holder.value();
+                if (recipe.isSpecial() || recipe.getIngredients().isEmpty())
+                {
+                    continue;
+                }
+
+                final ItemStack result = recipe.getResultItem(registryAccess);
+                if (result.isEmpty())
+                {
+                    continue;
+                }
+
+                final List<int[]> ingredients = new ArrayList<>(recipe.getIngredients().size());
+                for (Ingredient ingredient : recipe.getIngredients())
+                {
+                    if (!ingredient.isEmpty())
+                    {
+                        ingredients.add(ids(ingredient));
+                    }
+                }
+                if (!ingredients.isEmpty())
+                {
+                    recipes.computeIfAbsent(BuiltInRegistries.ITEM.getId(result.getItem()), id -> new ArrayList<>())
+                            .add(new Node(result.getCount(), ingredients.toArray(int[][]::new)));
+                }
+            }
+            return new Graph(recipes, weights, values);
+        }
+
+        private static int[] ids(Ingredient ingredient)
+        {
+            final IntArrayList ids = new IntArrayList();
+            for (ItemStack stack : ingredient.getItems())
+            {
+                ids.add(BuiltInRegistries.ITEM.getId(stack.getItem()));
+            }
+            return ids.toIntArray();
+        }
+
+        /**
+         * Resolves every item produced by a recipe and returns the inferred profiles.
+         */
+        ItemProfile[] resolve()
+        {
+            final int[] crafted = recipes.keySet().toIntArray();
+            final boolean[] explicitWeights = new boolean[weights.length];
+            final boolean[] explicitValues = new boolean[values.length];
+            for (int id : crafted)
+            {
+                explicitWeights[id] = !Double.isNaN(weights[id]);
+                explicitValues[id] = !Double.isNaN(values[id]);
+            }
+
+            int passes = 0;
+            boolean changed = true;
+            while (changed && passes < MAX_PASSES)
+            {
+                changed = false;
+                for (int id : crafted)
+                {
+                    changed |= relax(id, explicitWeights[id], explicitValues[id]);
+                }
+                passes++;
+            }
+            if (changed)
+            {
+                LOGGER.warn("[{}]: Item weights inferred from recipes did not settle within {} passes", MOD_NAME, MAX_PASSES);
+            }
+
+            final ItemProfile[] table = new ItemProfile[weights.length];
+            for (int id : crafted)
+            {
+                if (!explicitWeights[id] && !Double.isNaN(weights[id]))
+                {
+                    table[id] = ItemProfile.inferred(weights[id], Double.isNaN(values[id]) ? -1 : (int) Math.round(values[id]));
+                }
+            }
+            return table;
+        }
+
+        // Recomputes an item from the current estimates of its ingredients, and returns whether it improved
+        private boolean relax(int id, boolean explicitWeight, boolean explicitValue)
+        {
+            if (explicitWeight && explicitValue)
+            {
+                return false;
+            }
+
+            double weight = Double.NaN, value = Double.NaN;
+            for (Node node : recipes.get(id))
+            {
+                double recipeWeight = 0, recipeValue = 0;
+                for (int[] options : node.ingredients())
+                {
+                    double optionWeight = Double.NaN, optionValue = Double.NaN;
+                    for (int option : options)
+                    {
+                        if (option >= 0 && option < weights.length)
+                        {
+                            optionWeight = min(optionWeight, weights[option]);
+                            optionValue = min(optionValue, values[option]);
+                        }
+                    }
+                    // NaN propagates, so a recipe with any unresolved ingredient is skipped for now
+                    recipeWeight += optionWeight;
+                    recipeValue += optionValue;
+                }
+                weight = min(weight, recipeWeight / node.count());
+                value = min(value, recipeValue / node.count());
+            }
+
+            boolean changed = false;
+            if (!explicitWeight && improves(weight, weights[id]))
+            {
+                weights[id] = weight;
+                changed = true;
+            }
+            if (!explicitValue && improves(value, values[id]))
+            {
+                values[id] = value;
+                changed = true;
+            }
+            return changed;
+        }
+
+        // Whether a new estimate is known and lower than the current one, where NaN stands for unknown
+        private static boolean improves(double estimate, double current)
+        {
+            return !Double.isNaN(estimate) && (Double.isNaN(current) || estimate < current - EPSILON);
+        }
+
+        // The smaller of two numbers, where NaN stands for unknown rather than winning
+        private static double min(double a, double b)
+        {
+            return Double.isNaN(a) ? b : Double.isNaN(b) ? a : Math.min(a, b);
+        }
+    }
+
+    /**
+     * A recipe, flattened into registry ids.
+     *
+     * @param count       the number of items crafted
+     * @param ingredients the registry ids of the items each ingredient accepts
+     */
+    private record Node(int count, int[][] ingredients) {}
+}
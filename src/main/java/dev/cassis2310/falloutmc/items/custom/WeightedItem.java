@@ -1,12 +1,15 @@
     package dev.cassis2310.falloutmc.items.custom;
 
     import dev.cassis2310.falloutmc.items.enums.ItemType;
+    import dev.cassis2310.falloutmc.survival.Consumption;
     import net.minecraft.ChatFormatting;
     import net.minecraft.network.chat.Component;
+    import net.minecraft.world.entity.LivingEntity;
     import net.minecraft.world.item.Item;
     import net.minecraft.world.item.ItemStack;
     import net.minecraft.world.item.TooltipFlag;
     import net.minecraft.world.item.UseAnim;
+    import net.minecraft.world.level.Level;
     import org.jetbrains.annotations.NotNull;
 
     import java.util.List;
@@ -42,6 +45,17 @@
             tooltipComponents.add(Component.translatable("tooltip.item.weight", getWeight()).withStyle(ChatFormatting.GRAY));
         }
 
+        @Override
+        public @NotNull ItemStack finishUsingItem(@NotNull ItemStack stack, @NotNull Level level, @NotNull LivingEntity livingEntity)
+        {
+            if (!level.isClientSide())
+            {
+                Consumption.consume(livingEntity, stack);
+            }
+
+            return super.finishUsingItem(stack, level, livingEntity);
+        }
+
         @Override
         public @NotNull UseAnim getUseAnimation(@NotNull ItemStack stack)
         {
@@ -0,0 +1,139 @@
+package dev.cassis2310.falloutmc.loot;
+
+import com.mojang.logging.LogUtils;
+import dev.cassis2310.falloutmc.items.ItemProfile;
+import dev.cassis2310.falloutmc.items.ItemProfileCache;
+import dev.cassis2310.falloutmc.items.ItemWeightRegistry;
+import dev.cassis2310.falloutmc.utils.AliasTable;
+import net.minecraft.core.Holder;
+import net.minecraft.core.NonNullList;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.cassis2310.falloutmc.FalloutMc.MOD_NAME;
+
+/**
+ * The loot of each {@link LootContainerKind}, compiled into flat weighted arrays.
+ *
+ * <p>An item's chance of being rolled is inversely proportional to its {@code value} plus one, so caps and
+ * scrap are common and valuable items rare. Items without a value count as worthless. Items worth at most
+ * {@link #CHEAP_VALUE} come in stacks of up to {@link #CHEAP_STACK}, the rest one at a time.</p>
+ *
+ * <p>A kind is compiled the first time a container of that kind is looted, and filling a container after
+ * that is an alias table draw per roll. The tables are discarded when tags, data maps or inferred values
+ * change, see {@link #invalidate()}.</p>
+ */
+public class ContainerLootTables
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** The highest value of an item that may be rolled as a stack. */
+    public static final int CHEAP_VALUE = 5;
+    /** The largest stack of a cheap item rolled at once. */
+    public static final int CHEAP_STACK = 4;
+
+    private static final LootContainerKind[] KINDS = LootContainerKind.values();
+
+    // A null entry is compiled on first use; invalidating swaps the whole array
+    private static volatile Table[] tables = new Table[KINDS.length];
+
+    private ContainerLootTables()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Rolls the loot of a container into its slots, starting from the first.
+     *
+     * @param kind   the kind of the container
+     * @param items  the slots of the container
+     * @param random the random source
+     */
+    public static void fill(LootContainerKind kind, NonNullList<ItemStack> items, RandomSource random)
+    {
+        final Table table = get(kind);
+        if (table.aliasTable() == null)
+        {
+            return;
+        }
+
+        final int rolls = Mth.randomBetweenInclusive(random, kind.getMinRolls(), kind.getMaxRolls());
+        double budget = kind.getMaxWeight();
+        int slot = 0;
+        for (int roll = 0; roll < rolls && slot < items.size(); roll++)
+        {
+            final int i = table.aliasTable().sample(random);
+            final int count = 1 + random.nextInt(table.maxCounts()[i]);
+            final double weight = table.weights()[i] * count;
+            if (weight > budget)
+            {
+                continue;
+            }
+            budget -= weight;
+            items.set(slot++, new ItemStack(table.items()[i], count));
+        }
+    }
+
+    /**
+     * Discards the compiled tables. Called when tags reload, and when item values change.
+     */
+    public static void invalidate()
+    {
+        tables = new Table[KINDS.length];
+    }
+
+    private static Table get(LootContainerKind kind)
+    {
+        final Table[] tables = ContainerLootTables.tables;
+        Table table = tables[kind.ordinal()];
+        if (table == null)
+        {
+            table = compile(kind);
+            tables[kind.ordinal()] = table;
+        }
+        return table;
+    }
+
+    private static Table compile(LootContainerKind kind)
+    {
+        final List<Item> items = new ArrayList<>();
+        for (Holder<Item> holder : BuiltInRegistries.ITEM.getTagOrEmpty(kind.getLoot()))
+        {
+            items.add(holder.value());
+        }
+
+        final double[] chances = new double[items.size()];
+        final double[] weights = new double[items.size()];
+        final int[] maxCounts = new int[items.size()];
+        for (int i = 0; i < items.size(); i++)
+        {
+            final Item item = items.get(i);
+            final ItemProfile profile = ItemProfileCache.get(item);
+            final int value = profile != null ? Math.max(profile.value(), 0) : 0;
+            chances[i] = 1.0 / (value + 1);
+            weights[i] = ItemWeightRegistry.weightOf(item);
+            maxCounts[i] = value <= CHEAP_VALUE ? Math.min(CHEAP_STACK, item.getDefaultMaxStackSize()) : 1;
+        }
+
+        LOGGER.debug("[{}]: Compiled the loot of {} from {} items", MOD_NAME, kind.getSerializedName(), items.size());
+        return new Table(items.toArray(Item[]::new), items.isEmpty() ? null : new AliasTable(chances), weights, maxCounts);
+    }
+
+    /**
+     * The compiled loot of a container kind.
+     *
+     * @param items      the items that may be rolled
+     * @param aliasTable the table sampling an index of {@code items}, {@code null} if there are none
+     * @param weights    the weight of one of each item
+     * @param maxCounts  the largest stack of each item rolled at once
+     */
+    private record Table(Item[] items, @Nullable AliasTable aliasTable, double[] weights, int[] maxCounts) {}
+}
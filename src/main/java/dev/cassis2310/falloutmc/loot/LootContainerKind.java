@@ -0,0 +1,76 @@
+package dev.cassis2310.falloutmc.loot;
+
+import com.mojang.serialization.Codec;
+import dev.cassis2310.falloutmc.tags.FalloutMcTags;
+import net.minecraft.tags.TagKey;
+import net.minecraft.util.StringRepresentable;
+import net.minecraft.world.item.Item;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The kinds of wasteland loot containers, each drawing its loot from an item tag.
+ *
+ * <p>A container rolls between {@code minRolls} and {@code maxRolls} items, skipping any roll that would
+ * take its contents above {@code maxWeight} pounds, see {@link ContainerLootTables}.</p>
+ */
+public enum LootContainerKind implements StringRepresentable
+{
+    FOOTLOCKER("footlocker", FalloutMcTags.Items.FOOTLOCKER_LOOT, 2, 5, 30),
+    TOOLBOX("toolbox", FalloutMcTags.Items.TOOLBOX_LOOT, 1, 4, 20),
+    FRIDGE("fridge", FalloutMcTags.Items.FRIDGE_LOOT, 1, 4, 10);
+
+    public static final Codec<LootContainerKind> CODEC = StringRepresentable.fromEnum(LootContainerKind::values);
+
+    private final String name;
+    private final TagKey<Item> loot;
+    private final int minRolls;
+    private final int maxRolls;
+    private final double maxWeight;
+
+    LootContainerKind(String name, TagKey<Item> loot, int minRolls, int maxRolls, double maxWeight)
+    {
+        this.name = name;
+        this.loot = loot;
+        this.minRolls = minRolls;
+        this.maxRolls = maxRolls;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * @return the tag of the items the container may hold
+     */
+    public TagKey<Item> getLoot()
+    {
+        return loot;
+    }
+
+    /**
+     * @return the smallest number of items rolled
+     */
+    public int getMinRolls()
+    {
+        return minRolls;
+    }
+
+    /**
+     * @return the largest number of items rolled
+     */
+    public int getMaxRolls()
+    {
+        return maxRolls;
+    }
+
+    /**
+     * @return the largest total weight of the rolled items, in pounds
+     */
+    public double getMaxWeight()
+    {
+        return maxWeight;
+    }
+
+    @Override
+    public @NotNull String getSerializedName()
+    {
+        return name;
+    }
+}
@@ -1,17 +1,34 @@
 package dev.cassis2310.falloutmc.mixins;
 
+import dev.cassis2310.falloutmc.items.CarryWeightLedger;
 import dev.cassis2310.falloutmc.utils.Offset;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.InventoryMenu;
 import net.minecraft.world.inventory.Slot;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyArg;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(InventoryMenu.class)
 public class InventoryMenuMixin
 {
-    // Inventory Menu Mixin
+    /**
+     * Attaches the carry weight listener to the inventory menu of every server player, so that the
+     * player's carry weight ledger receives each slot change as it is broadcast.
+     */
+    @Inject(method = "<init>", at = @At("TAIL"))
+    private void trackCarryWeight(Inventory playerInventory, boolean active, Player owner, CallbackInfo ci)
+    {
+        if (owner instanceof ServerPlayer player)
+        {
+            ((InventoryMenu) (Object) this).addSlotListener(new CarryWeightLedger.SlotListener(player));
+        }
+    }
 }
@@ -0,0 +1,223 @@
+package dev.cassis2310.falloutmc.network;
+
+import dev.cassis2310.falloutmc.datagen.codecs.items.ItemAttributes;
+import dev.cassis2310.falloutmc.datagen.codecs.items.consumables.*;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.core.Registry;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.item.Item;
+import net.neoforged.neoforge.registries.datamaps.DataMapType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+import static dev.cassis2310.falloutmc.datagen.datamaps.FalloutMcDataMaps.*;
+
+/**
+ * A copy of the contents of the six FalloutMC attribute data maps, keyed by item registry id.
+ *
+ * <p>The server keeps the snapshot it last sent to clients so that a reload can be diffed against it, and
+ * the client keeps a mirror of the server's snapshot that it rebuilds its lookup tables from.</p>
+ */
+public class AttributeSnapshot
+{
+    /**
+     * Every synced data map, in the order they appear on the network.
+     */
+    public static final List<Channel<?>> CHANNELS = List.of(
+            new Channel<>(ITEM_ATTRIBUTES, ItemAttributes.STREAM_CODEC),
+            new Channel<>(FOOD_ATTRIBUTES, FoodAttributes.STREAM_CODEC),
+            new Channel<>(SOUP_ATTRIBUTES, SoupAttributes.STREAM_CODEC),
+            new Channel<>(DRINK_ATTRIBUTES, DrinkAttributes.STREAM_CODEC),
+            new Channel<>(CHEM_ATTRIBUTES, ChemAttributes.STREAM_CODEC),
+            new Channel<>(MISCELLANEOUS_ATTRIBUTES, MiscellaneousAttributes.STREAM_CODEC)
+    );
+
+    private final Int2ObjectMap<?>[] entries = new Int2ObjectMap<?>[CHANNELS.size()];
+
+    public AttributeSnapshot()
+    {
+        for (int i = 0; i < entries.length; i++)
+        {
+            entries[i] = new Int2ObjectOpenHashMap<>();
+        }
+    }
+
+    /**
+     * Copies the current data maps of the item registry.
+     *
+     * @param registry the item registry
+     * @return a new snapshot
+     */
+    public static AttributeSnapshot of(Registry<Item> registry)
+    {
+        final AttributeSnapshot snapshot = new AttributeSnapshot();
+        for (int i = 0; i < CHANNELS.size(); i++)
+        {
+            copy(registry, CHANNELS.get(i), snapshot.channel(i));
+        }
+        return snapshot;
+    }
+
+    private static <T> void copy(Registry<Item> registry, Channel<T> channel, Int2ObjectMap<T> target)
+    {
+        for (Map.Entry<ResourceKey<Item>, T> entry : registry.getDataMap(channel.type()).entrySet())
+        {
+            final int id = registry.getId(registry.get(entry.getKey()));
+            if (id >= 0)
+            {
+                target.put(id, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the entries of a data map, keyed by item registry id.
+     *
+     * @param type the data map type
+     * @param <T>  the type of the data map values
+     * @return the entries of the data map
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Int2ObjectMap<T> get(DataMapType<Item, T> type)
+    {
+        for (int i = 0; i < CHANNELS.size(); i++)
+        {
+            if (CHANNELS.get(i).type() == type)
+            {
+                return (Int2ObjectMap<T>) entries[i];
+            }
+        }
+        throw new IllegalArgumentException("Data map " + type.id() + " is not part of the snapshot");
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Int2ObjectMap<T> channel(int index)
+    {
+        return (Int2ObjectMap<T>) entries[index];
+    }
+
+    /**
+     * Computes the changes needed to turn this snapshot into another one.
+     *
+     * @param next the newer snapshot
+     * @return one delta per channel
+     */
+    public List<DataMapDelta<?>> diff(AttributeSnapshot next)
+    {
+        final DataMapDelta<?>[] deltas = new DataMapDelta<?>[entries.length];
+        for (int i = 0; i < entries.length; i++)
+        {
+            deltas[i] = diff(channel(i), next.channel(i));
+        }
+        return List.of(deltas);
+    }
+
+    private static <T> DataMapDelta<T> diff(Int2ObjectMap<T> previous, Int2ObjectMap<T> next)
+    {
+        final Int2ObjectMap<T> changed = new Int2ObjectOpenHashMap<>();
+        final IntArrayList removed = new IntArrayList();
+        for (Int2ObjectMap.Entry<T> entry : next.int2ObjectEntrySet())
+        {
+            if (!Objects.equals(previous.get(entry.getIntKey()), entry.getValue()))
+            {
+                changed.put(entry.getIntKey(), entry.getValue());
+            }
+        }
+        for (int id : previous.keySet())
+        {
+            if (!next.containsKey(id))
+            {
+                removed.add(id);
+            }
+        }
+        return new DataMapDelta<>(changed, removed);
+    }
+
+    /**
+     * Returns the full contents of this snapshot as deltas against an empty snapshot.
+     *
+     * @return one delta per channel
+     */
+    public List<DataMapDelta<?>> asDeltas()
+    {
+        return new AttributeSnapshot().diff(this);
+    }
+
+    /**
+     * Applies deltas in place.
+     *
+     * @param deltas one delta per channel
+     */
+    public void apply(List<DataMapDelta<?>> deltas)
+    {
+        for (int i = 0; i < entries.length; i++)
+        {
+            apply(channel(i), deltas.get(i));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void apply(Int2ObjectMap<T> target, DataMapDelta<?> delta)
+    {
+        for (int i = 0; i < delta.removed().size(); i++)
+        {
+            target.remove(delta.removed().getInt(i));
+        }
+        target.putAll((Int2ObjectMap<T>) delta.changed());
+    }
+
+    /**
+     * Computes a checksum of the snapshot from the network encoding of every entry.
+     * <p>
+     * The entries are hashed individually and summed, so the result does not depend on iteration order,
+     * and hashing the encoded bytes makes it identical on both sides of the connection.
+     *
+     * @return the checksum
+     */
+    public int checksum()
+    {
+        final ByteBuf buf = Unpooled.buffer();
+        final CRC32 crc = new CRC32();
+        int checksum = 0;
+        for (int i = 0; i < entries.length; i++)
+        {
+            checksum += checksum(i, CHANNELS.get(i), channel(i), buf, crc);
+        }
+        return checksum;
+    }
+
+    private static <T> int checksum(int index, Channel<T> channel, Int2ObjectMap<T> entries, ByteBuf buf, CRC32 crc)
+    {
+        int checksum = 0;
+        for (Int2ObjectMap.Entry<T> entry : entries.int2ObjectEntrySet())
+        {
+            buf.clear();
+            buf.writeByte(index);
+            VarInt.write(buf, entry.getIntKey());
+            channel.codec().encode(buf, entry.getValue());
+
+            crc.reset();
+            crc.update(buf.array(), buf.arrayOffset(), buf.writerIndex());
+            checksum += (int) crc.getValue();
+        }
+        return checksum;
+    }
+
+    /**
+     * A synced data map and the codec used to send its values.
+     *
+     * @param type  the data map type
+     * @param codec the compact codec of its values
+     * @param <T>   the type of the data map values
+     */
+    public record Channel<T>(DataMapType<Item, T> type, StreamCodec<ByteBuf, T> codec) {}
+}
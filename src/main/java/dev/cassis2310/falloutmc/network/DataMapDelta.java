@@ -0,0 +1,69 @@
+package dev.cassis2310.falloutmc.network;
+
+import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+
+/**
+ * The changes to a single data map between two snapshots.
+ *
+ * @param changed the added or changed entries, keyed by item registry id
+ * @param removed the item registry ids whose entries were removed
+ * @param <T>     the type of the data map values
+ */
+public record DataMapDelta<T>(Int2ObjectMap<T> changed, IntList removed)
+{
+    /**
+     * @return whether the delta contains no changes
+     */
+    public boolean isEmpty()
+    {
+        return changed.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * Creates a stream codec for deltas of a data map.
+     *
+     * @param valueCodec the codec of the data map values
+     * @param <T>        the type of the data map values
+     * @return a stream codec writing the changed entries followed by the removed ids
+     */
+    public static <T> StreamCodec<ByteBuf, DataMapDelta<T>> streamCodec(StreamCodec<ByteBuf, T> valueCodec)
+    {
+        return StreamCodec.of(
+                (buf, delta) -> {
+                    VarInt.write(buf, delta.changed().size());
+                    for (Int2ObjectMap.Entry<T> entry : delta.changed().int2ObjectEntrySet())
+                    {
+                        VarInt.write(buf, entry.getIntKey());
+                        valueCodec.encode(buf, entry.getValue());
+                    }
+                    VarInt.write(buf, delta.removed().size());
+                    for (int i = 0; i < delta.removed().size(); i++)
+                    {
+                        VarInt.write(buf, delta.removed().getInt(i));
+                    }
+                },
+                buf -> {
+                    final int changedCount = VarInt.read(buf);
+                    final Int2ObjectMap<T> changed = new Int2ObjectOpenHashMap<>(changedCount);
+                    for (int i = 0; i < changedCount; i++)
+                    {
+                        final int id = VarInt.read(buf);
+                        changed.put(id, valueCodec.decode(buf));
+                    }
+                    final int removedCount = VarInt.read(buf);
+                    final IntList removed = new IntArrayList(removedCount);
+                    for (int i = 0; i < removedCount; i++)
+                    {
+                        removed.add(VarInt.read(buf));
+                    }
+                    return new DataMapDelta<>(changed, removed);
+                }
+        );
+    }
+}
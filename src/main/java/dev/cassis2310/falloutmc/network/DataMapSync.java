@@ -0,0 +1,292 @@
+package dev.cassis2310.falloutmc.network;
+
+import com.mojang.logging.LogUtils;
+import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.items.ItemProfile;
+import dev.cassis2310.falloutmc.items.ItemProfileCache;
+import dev.cassis2310.falloutmc.items.ItemWeightRegistry;
+import dev.cassis2310.falloutmc.items.RecipeValueInference;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.OnDatapackSyncEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+import net.neoforged.neoforge.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.UUID;
+
+import static dev.cassis2310.falloutmc.FalloutMc.MOD_NAME;
+
+/**
+ * Synchronizes the FalloutMC attribute data maps to clients.
+ *
+ * <p>The data maps are not synced by NeoForge, which would resend every entry of every data map to every
+ * player on each reload. Instead, players receive the full contents once when they join, and after a reload
+ * only the entries that were added, changed or removed. Every payload carries a revision and a checksum, and
+ * a client that ends up out of step asks for a full resync with a {@link RequestDataMapSyncPayload}.</p>
+ *
+ * <p>A full resync resends every entry, so requests from a client already at the current revision are
+ * ignored, and each player is sent at most one full resync every {@link #FULL_SYNC_COOLDOWN} ticks. A request
+ * arriving sooner is answered once the cooldown has passed, so a client that needs a resync always gets
+ * one.</p>
+ *
+ * <p>The profiles inferred from recipes by {@link RecipeValueInference} are not part of any data map, and are
+ * sent separately with an {@link InferredProfilesPayload}: in full to a joining player, and to everyone each
+ * time the inference finishes.</p>
+ */
+@EventBusSubscriber(modid = FalloutMc.MOD_ID, bus = EventBusSubscriber.Bus.GAME)
+public class DataMapSync
+{
+    /** The fewest ticks between two full resyncs sent to the same player. */
+    public static final int FULL_SYNC_COOLDOWN = 100;
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    // Server side: the contents last sent to clients
+    private static @Nullable AttributeSnapshot serverSnapshot;
+    private static @Nullable AttributeSnapshot pendingSnapshot;
+    private static int serverRevision;
+    private static final Object2LongMap<UUID> nextFullSyncTicks = new Object2LongOpenHashMap<>();
+    private static final Object2LongMap<UUID> deferredRequests = new Object2LongOpenHashMap<>();
+
+    // Client side: the mirror of the server's contents
+    private static AttributeSnapshot clientSnapshot = new AttributeSnapshot();
+    private static int clientRevision = -1;
+
+    /**
+     * Stages the contents of freshly (re)loaded data maps, to be sent with the next data pack sync.
+     *
+     * @param snapshot the reloaded data maps
+     */
+    public static void stage(AttributeSnapshot snapshot)
+    {
+        if (serverSnapshot == null)
+        {
+            serverSnapshot = snapshot;
+        }
+        else
+        {
+            pendingSnapshot = snapshot;
+        }
+    }
+
+    /**
+     * Sends the data maps to the players receiving the data pack sync: in full to a joining player,
+     * or only the changes to everyone after a reload.
+     *
+     * @param event the data pack sync event
+     */
+    @SubscribeEvent
+    public static void onDatapackSync(OnDatapackSyncEvent event)
+    {
+        final ServerPlayer joiningPlayer = event.getPlayer();
+        if (joiningPlayer != null)
+        {
+            sendFull(joiningPlayer);
+            PacketDistributor.sendToPlayer(joiningPlayer, new InferredProfilesPayload(ItemProfileCache.inferred()));
+            return;
+        }
+
+        final AttributeSnapshot next = pendingSnapshot != null ? pendingSnapshot : AttributeSnapshot.of(BuiltInRegistries.ITEM);
+        final AttributeSnapshot previous = serverSnapshot;
+        pendingSnapshot = null;
+        if (previous == null)
+        {
+            serverSnapshot = next;
+            return;
+        }
+
+        final int baseRevision = serverRevision;
+        final DataMapSyncPayload payload = new DataMapSyncPayload(false, baseRevision, baseRevision + 1, next.checksum(), previous.diff(next));
+        serverSnapshot = next;
+        serverRevision = baseRevision + 1;
+
+        if (!payload.isEmpty())
+        {
+            event.getRelevantPlayers().forEach(player -> PacketDistributor.sendToPlayer(player, payload));
+        }
+    }
+
+    /**
+     * Sends the full contents of the data maps to a player.
+     *
+     * @param player the player
+     */
+    public static void sendFull(ServerPlayer player)
+    {
+        AttributeSnapshot snapshot = serverSnapshot;
+        if (snapshot == null)
+        {
+            snapshot = serverSnapshot = AttributeSnapshot.of(BuiltInRegistries.ITEM);
+        }
+        PacketDistributor.sendToPlayer(player, new DataMapSyncPayload(true, 0, serverRevision, snapshot.checksum(), snapshot.asDeltas()));
+        nextFullSyncTicks.put(player.getUUID(), player.server.getTickCount() + FULL_SYNC_COOLDOWN);
+        deferredRequests.removeLong(player.getUUID());
+    }
+
+    /**
+     * Answers a player's request for a full resync, unless their copy is already at the current revision.
+     * Requests within {@link #FULL_SYNC_COOLDOWN} ticks of the last full resync sent to the player wait for
+     * the cooldown to pass.
+     *
+     * @param player   the player
+     * @param revision the last revision the player's copy was valid at
+     */
+    public static void onFullSyncRequested(ServerPlayer player, int revision)
+    {
+        if (revision == serverRevision && serverSnapshot != null)
+        {
+            return;
+        }
+
+        final long nextTick = nextFullSyncTicks.getLong(player.getUUID());
+        if (player.server.getTickCount() < nextTick)
+        {
+            deferredRequests.put(player.getUUID(), nextTick);
+            return;
+        }
+        sendFull(player);
+    }
+
+    /**
+     * Answers the deferred resync requests whose cooldown has passed.
+     *
+     * @param event the server tick event
+     */
+    @SubscribeEvent
+    public static void onServerTick(ServerTickEvent.Post event)
+    {
+        if (deferredRequests.isEmpty())
+        {
+            return;
+        }
+
+        final MinecraftServer server = event.getServer();
+        for (ObjectIterator<Object2LongMap.Entry<UUID>> it = deferredRequests.object2LongEntrySet().iterator(); it.hasNext(); )
+        {
+            final Object2LongMap.Entry<UUID> entry = it.next();
+            if (server.getTickCount() >= entry.getLongValue())
+            {
+                it.remove();
+                final ServerPlayer player = server.getPlayerList().getPlayer(entry.getKey());
+                if (player != null)
+                {
+                    sendFull(player);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets the resync cooldown and any deferred request of a player who logged out.
+     *
+     * @param event the player logged out event
+     */
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event)
+    {
+        nextFullSyncTicks.removeLong(event.getEntity().getUUID());
+        deferredRequests.removeLong(event.getEntity().getUUID());
+    }
+
+    /**
+     * Forgets the server state once the server has stopped.
+     *
+     * @param event the server stopped event
+     */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event)
+    {
+        serverSnapshot = null;
+        pendingSnapshot = null;
+        serverRevision = 0;
+        nextFullSyncTicks.clear();
+        deferredRequests.clear();
+    }
+
+    /**
+     * Applies a payload to the client's mirror and rebuilds the client's lookup tables. Ignored on a client
+     * running an integrated server, whose lookup tables are shared with the server.
+     *
+     * @param payload the payload
+     */
+    static void acceptOnClient(DataMapSyncPayload payload)
+    {
+        if (ServerLifecycleHooks.getCurrentServer() != null)
+        {
+            // An integrated server shares the lookup tables, and has already built them from the exact data
+            return;
+        }
+
+        if (payload.full())
+        {
+            clientSnapshot = new AttributeSnapshot();
+            clientRevision = -1;
+        }
+        else if (payload.baseRevision() != clientRevision)
+        {
+            LOGGER.warn("[{}]: Data map delta for revision {} does not apply to revision {}, requesting a full resync", MOD_NAME, payload.baseRevision(), clientRevision);
+            requestFull();
+            return;
+        }
+
+        clientSnapshot.apply(payload.deltas());
+        if (clientSnapshot.checksum() != payload.checksum())
+        {
+            LOGGER.warn("[{}]: Data map checksum mismatch at revision {}, requesting a full resync", MOD_NAME, payload.revision());
+            requestFull();
+            return;
+        }
+
+        clientRevision = payload.revision();
+        ItemProfileCache.rebuild(clientSnapshot, BuiltInRegistries.ITEM.size());
+        ItemWeightRegistry.rebuild(BuiltInRegistries.ITEM);
+    }
+
+    /**
+     * Replaces the client's inferred profiles and rebuilds the lookup tables reading them. Ignored on a client
+     * running an integrated server, which publishes its inferred profiles itself.
+     *
+     * @param payload the payload
+     */
+    static void acceptInferredOnClient(InferredProfilesPayload payload)
+    {
+        if (ServerLifecycleHooks.getCurrentServer() != null)
+        {
+            return;
+        }
+
+        ItemProfileCache.publishInferred(payload.profiles());
+        ItemWeightRegistry.rebuild(BuiltInRegistries.ITEM);
+    }
+
+    /**
+     * Forgets the client mirror and the inferred profiles received from the server. Called when the client
+     * disconnects.
+     */
+    public static void resetClient()
+    {
+        clientSnapshot = new AttributeSnapshot();
+        clientRevision = -1;
+        if (ServerLifecycleHooks.getCurrentServer() == null)
+        {
+            ItemProfileCache.publishInferred(new ItemProfile[0]);
+        }
+    }
+
+    private static void requestFull()
+    {
+        PacketDistributor.sendToServer(new RequestDataMapSyncPayload(clientRevision));
+        clientRevision = -1;
+    }
+}
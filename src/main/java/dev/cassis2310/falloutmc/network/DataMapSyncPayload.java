@@ -0,0 +1,88 @@
+package dev.cassis2310.falloutmc.network;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.cassis2310.falloutmc.utils.helpers.ResourceHelpers.falloutMcResource;
+
+/**
+ * Sent to clients to update their copy of the FalloutMC attribute data maps.
+ *
+ * <p>A full payload replaces the client's copy. Otherwise the payload only holds the entries that changed
+ * since {@code baseRevision}, and is only applied if the client is at that revision. In both cases the
+ * client verifies the resulting contents against {@code checksum}, and asks for a full payload on mismatch.</p>
+ *
+ * @param full         whether the payload holds the full contents of the data maps
+ * @param baseRevision the revision the deltas apply to, ignored for a full payload
+ * @param revision     the revision after applying the deltas
+ * @param checksum     the {@link AttributeSnapshot#checksum()} after applying the deltas
+ * @param deltas       one delta per {@link AttributeSnapshot#CHANNELS channel}
+ */
+public record DataMapSyncPayload(boolean full, int baseRevision, int revision, int checksum, List<DataMapDelta<?>> deltas) implements CustomPacketPayload
+{
+    public static final Type<DataMapSyncPayload> TYPE = new Type<>(falloutMcResource("data_map_sync"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, DataMapSyncPayload> STREAM_CODEC = StreamCodec.of(
+            (buf, payload) -> {
+                buf.writeBoolean(payload.full());
+                VarInt.write(buf, payload.baseRevision());
+                VarInt.write(buf, payload.revision());
+                buf.writeInt(payload.checksum());
+                for (int i = 0; i < AttributeSnapshot.CHANNELS.size(); i++)
+                {
+                    encodeDelta(buf, AttributeSnapshot.CHANNELS.get(i), payload.deltas().get(i));
+                }
+            },
+            buf -> {
+                final boolean full = buf.readBoolean();
+                final int baseRevision = VarInt.read(buf);
+                final int revision = VarInt.read(buf);
+                final int checksum = buf.readInt();
+                final List<DataMapDelta<?>> deltas = new ArrayList<>(AttributeSnapshot.CHANNELS.size());
+                for (AttributeSnapshot.Channel<?> channel : AttributeSnapshot.CHANNELS)
+                {
+                    deltas.add(DataMapDelta.streamCodec(channel.codec()).decode(buf));
+                }
+                return new DataMapSyncPayload(full, baseRevision, revision, checksum, deltas);
+            }
+    );
+
+    @SuppressWarnings("unchecked")
+    private static <T> void encodeDelta(ByteBuf buf, AttributeSnapshot.Channel<T> channel, DataMapDelta<?> delta)
+    {
+        DataMapDelta.streamCodec(channel.codec()).encode(buf, (DataMapDelta<T>) delta);
+    }
+
+    /**
+     * @return whether the payload changes nothing
+     */
+    public boolean isEmpty()
+    {
+        return !full && deltas.stream().allMatch(DataMapDelta::isEmpty);
+    }
+
+    /**
+     * Handles the payload on the client.
+     *
+     * @param payload the payload
+     * @param context the payload context
+     */
+    public static void handle(DataMapSyncPayload payload, IPayloadContext context)
+    {
+        context.enqueueWork(() -> DataMapSync.acceptOnClient(payload));
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type()
+    {
+        return TYPE;
+    }
+}
@@ -0,0 +1,39 @@
+package dev.cassis2310.falloutmc.network;
+
+import dev.cassis2310.falloutmc.FalloutMc;
+import dev.cassis2310.falloutmc.client.ClientPayloadHandler;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+
+/**
+ * Registers the network payloads of the Fallout Minecraft mod.
+ */
+@EventBusSubscriber(modid = FalloutMc.MOD_ID, bus = EventBusSubscriber.Bus.MOD)
+public class FalloutMcNetwork
+{
+    /**
+     * The network protocol version. Bump this whenever a payload changes.
+     */
+    public static final String VERSION = "4";
+
+    /**
+     * Registers every payload and its handler.
+     *
+     * @param event the payload registration event
+     */
+    @SubscribeEvent
+    public static void registerPayloads(RegisterPayloadHandlersEvent event)
+    {
+        final PayloadRegistrar registrar = event.registrar(VERSION);
+
+        registrar.playToClient(DataMapSyncPayload.TYPE, DataMapSyncPayload.STREAM_CODEC, DataMapSyncPayload::handle);
+        registrar.playToClient(InferredProfilesPayload.TYPE, InferredProfilesPayload.STREAM_CODEC, InferredProfilesPayload::handle);
+        registrar.playToClient(SurvivalStatsPayload.TYPE, SurvivalStatsPayload.STREAM_CODEC, SurvivalStatsPayload::handle);
+        registrar.playToServer(RequestDataMapSyncPayload.TYPE, RequestDataMapSyncPayload.STREAM_CODEC, RequestDataMapSyncPayload::handle);
+        registrar.playToClient(VatsTargetsPayload.TYPE, VatsTargetsPayload.STREAM_CODEC, ClientPayloadHandler::handleVatsTargets);
+        registrar.playToServer(VatsActivatePayload.TYPE, VatsActivatePayload.STREAM_CODEC, VatsActivatePayload::handle);
+        registrar.playToServer(VatsAttackPayload.TYPE, VatsAttackPayload.STREAM_CODEC, VatsAttackPayload::handle);
+    }
+}
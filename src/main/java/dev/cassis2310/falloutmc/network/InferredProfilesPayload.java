@@ -0,0 +1,81 @@
+package dev.cassis2310.falloutmc.network;
+
+import dev.cassis2310.falloutmc.items.ItemProfile;
+import dev.cassis2310.falloutmc.items.RecipeValueInference;
+import dev.cassis2310.falloutmc.utils.helpers.CodecHelpers;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+import static dev.cassis2310.falloutmc.utils.helpers.ResourceHelpers.falloutMcResource;
+
+/**
+ * Sent to clients with the weights and values the server inferred from recipes, see
+ * {@link RecipeValueInference}. Only the items with an inferred profile are written, by registry id.
+ *
+ * @param profiles the inferred profiles, indexed by item registry id
+ */
+public record InferredProfilesPayload(ItemProfile[] profiles) implements CustomPacketPayload
+{
+    public static final Type<InferredProfilesPayload> TYPE = new Type<>(falloutMcResource("inferred_profiles"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, InferredProfilesPayload> STREAM_CODEC = StreamCodec.of(
+            (buf, payload) -> {
+                int count = 0;
+                for (ItemProfile profile : payload.profiles())
+                {
+                    if (profile != null)
+                    {
+                        count++;
+                    }
+                }
+
+                VarInt.write(buf, count);
+                for (int id = 0; id < payload.profiles().length; id++)
+                {
+                    final ItemProfile profile = payload.profiles()[id];
+                    if (profile != null)
+                    {
+                        VarInt.write(buf, id);
+                        CodecHelpers.writeWeight(buf, profile.weight());
+                        CodecHelpers.writeVarInt(buf, profile.value());
+                    }
+                }
+            },
+            buf -> {
+                final ItemProfile[] profiles = new ItemProfile[BuiltInRegistries.ITEM.size()];
+                final int count = VarInt.read(buf);
+                for (int i = 0; i < count; i++)
+                {
+                    final int id = VarInt.read(buf);
+                    final ItemProfile profile = ItemProfile.inferred(CodecHelpers.readWeight(buf), CodecHelpers.readVarInt(buf));
+                    if (id >= 0 && id < profiles.length)
+                    {
+                        profiles[id] = profile;
+                    }
+                }
+                return new InferredProfilesPayload(profiles);
+            }
+    );
+
+    /**
+     * Handles the payload on the client.
+     *
+     * @param payload the payload
+     * @param context the payload context
+     */
+    public static void handle(InferredProfilesPayload payload, IPayloadContext context)
+    {
+        context.enqueueWork(() -> DataMapSync.acceptInferredOnClient(payload));
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type()
+    {
+        return TYPE;
+    }
+}
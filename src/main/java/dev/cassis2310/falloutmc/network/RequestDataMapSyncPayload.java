@@ -0,0 +1,48 @@
+package dev.cassis2310.falloutmc.network;
+
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+import static dev.cassis2310.falloutmc.utils.helpers.ResourceHelpers.falloutMcResource;
+
+/**
+ * Sent by a client whose copy of the attribute data maps no longer matches the server, to request a full resync.
+ *
+ * @param revision the last revision the client's copy was known to be valid at, or -1 if none
+ */
+public record RequestDataMapSyncPayload(int revision) implements CustomPacketPayload
+{
+    public static final Type<RequestDataMapSyncPayload> TYPE = new Type<>(falloutMcResource("request_data_map_sync"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, RequestDataMapSyncPayload> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.VAR_INT, RequestDataMapSyncPayload::revision,
+            RequestDataMapSyncPayload::new
+    );
+
+    /**
+     * Handles the payload on the server.
+     *
+     * @param payload the payload
+     * @param context the payload context
+     */
+    public static void handle(RequestDataMapSyncPayload payload, IPayloadContext context)
+    {
+        context.enqueueWork(() -> {
+            if (context.player() instanceof ServerPlayer player)
+            {
+                DataMapSync.onFullSyncRequested(player, payload.revision());
+            }
+        });
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type()
+    {
+        return TYPE;
+    }
+}
@@ -0,0 +1,100 @@
+package dev.cassis2310.falloutmc.network;
+
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import dev.cassis2310.falloutmc.items.CarryWeightLedger;
+import dev.cassis2310.falloutmc.survival.SurvivalStats;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+import static dev.cassis2310.falloutmc.utils.helpers.ResourceHelpers.falloutMcResource;
+
+/**
+ * Sent to a player to update their copy of their own {@link SurvivalStats} and carried weight.
+ *
+ * <p>Only the stats in {@code mask} are written, the others are left out and read back as 0.</p>
+ *
+ * @param mask         the stats sent, a combination of the {@link SurvivalStats#RADS} bits and {@link #CARRY_WEIGHT}
+ * @param rads         the radiation
+ * @param hunger       the hunger
+ * @param thirst       the thirst
+ * @param actionPoints the action points
+ * @param carryWeight  the total weight of the player's inventory
+ */
+public record SurvivalStatsPayload(int mask, float rads, float hunger, float thirst, float actionPoints, float carryWeight) implements CustomPacketPayload
+{
+    /** The bit of {@link #mask()} set when the carried weight is sent. */
+    public static final int CARRY_WEIGHT = 1 << 4;
+
+    public static final Type<SurvivalStatsPayload> TYPE = new Type<>(falloutMcResource("survival_stats"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, SurvivalStatsPayload> STREAM_CODEC = StreamCodec.of(
+            (buf, payload) -> {
+                buf.writeByte(payload.mask());
+                writeIf(buf, payload.mask(), SurvivalStats.RADS, payload.rads());
+                writeIf(buf, payload.mask(), SurvivalStats.HUNGER, payload.hunger());
+                writeIf(buf, payload.mask(), SurvivalStats.THIRST, payload.thirst());
+                writeIf(buf, payload.mask(), SurvivalStats.ACTION_POINTS, payload.actionPoints());
+                writeIf(buf, payload.mask(), CARRY_WEIGHT, payload.carryWeight());
+            },
+            buf -> {
+                final int mask = buf.readByte();
+                final float rads = readIf(buf, mask, SurvivalStats.RADS);
+                final float hunger = readIf(buf, mask, SurvivalStats.HUNGER);
+                final float thirst = readIf(buf, mask, SurvivalStats.THIRST);
+                final float actionPoints = readIf(buf, mask, SurvivalStats.ACTION_POINTS);
+                final float carryWeight = readIf(buf, mask, CARRY_WEIGHT);
+                return new SurvivalStatsPayload(mask, rads, hunger, thirst, actionPoints, carryWeight);
+            }
+    );
+
+    private static void writeIf(RegistryFriendlyByteBuf buf, int mask, int bit, float value)
+    {
+        if ((mask & bit) != 0)
+        {
+            buf.writeFloat(value);
+        }
+    }
+
+    private static float readIf(RegistryFriendlyByteBuf buf, int mask, int bit)
+    {
+        return (mask & bit) != 0 ? buf.readFloat() : 0;
+    }
+
+    /**
+     * @param mask   the stats to send
+     * @param stats  the survival stats of the player
+     * @param ledger the carry weight ledger of the player
+     * @return a payload holding the stats in the mask
+     */
+    public static SurvivalStatsPayload of(int mask, SurvivalStats stats, CarryWeightLedger ledger)
+    {
+        return new SurvivalStatsPayload(mask, stats.getRads(), stats.getHunger(), stats.getThirst(), stats.getActionPoints(), (float) ledger.getTotalWeight());
+    }
+
+    /**
+     * Handles the payload on the client.
+     *
+     * @param payload the payload
+     * @param context the payload context
+     */
+    public static void handle(SurvivalStatsPayload payload, IPayloadContext context)
+    {
+        context.enqueueWork(() -> {
+            context.player().getData(FalloutMcAttachments.SURVIVAL_STATS)
+                    .set(payload.mask(), payload.rads(), payload.hunger(), payload.thirst(), payload.actionPoints());
+            if ((payload.mask() & CARRY_WEIGHT) != 0)
+            {
+                context.player().getData(FalloutMcAttachments.CARRY_WEIGHT).setSyncedWeight(payload.carryWeight());
+            }
+        });
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type()
+    {
+        return TYPE;
+    }
+}
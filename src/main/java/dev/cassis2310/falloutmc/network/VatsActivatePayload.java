@@ -0,0 +1,45 @@
+package dev.cassis2310.falloutmc.network;
+
+import dev.cassis2310.falloutmc.vats.Vats;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+import static dev.cassis2310.falloutmc.utils.helpers.ResourceHelpers.falloutMcResource;
+
+/**
+ * Sent by a client to activate VATS.
+ */
+public record VatsActivatePayload() implements CustomPacketPayload
+{
+    public static final VatsActivatePayload INSTANCE = new VatsActivatePayload();
+
+    public static final Type<VatsActivatePayload> TYPE = new Type<>(falloutMcResource("vats_activate"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, VatsActivatePayload> STREAM_CODEC = StreamCodec.unit(INSTANCE);
+
+    /**
+     * Handles the payload on the server.
+     *
+     * @param payload the payload
+     * @param context the payload context
+     */
+    public static void handle(VatsActivatePayload payload, IPayloadContext context)
+    {
+        context.enqueueWork(() -> {
+            if (context.player() instanceof ServerPlayer player)
+            {
+                Vats.activate(player);
+            }
+        });
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type()
+    {
+        return TYPE;
+    }
+}
@@ -0,0 +1,49 @@
+package dev.cassis2310.falloutmc.network;
+
+import dev.cassis2310.falloutmc.vats.Vats;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+import static dev.cassis2310.falloutmc.utils.helpers.ResourceHelpers.falloutMcResource;
+
+/**
+ * Sent by a client to attack a target of its VATS session.
+ *
+ * @param entityId the id of the target
+ */
+public record VatsAttackPayload(int entityId) implements CustomPacketPayload
+{
+    public static final Type<VatsAttackPayload> TYPE = new Type<>(falloutMcResource("vats_attack"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, VatsAttackPayload> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.VAR_INT, VatsAttackPayload::entityId,
+            VatsAttackPayload::new
+    );
+
+    /**
+     * Handles the payload on the server.
+     *
+     * @param payload the payload
+     * @param context the payload context
+     */
+    public static void handle(VatsAttackPayload payload, IPayloadContext context)
+    {
+        context.enqueueWork(() -> {
+            if (context.player() instanceof ServerPlayer player)
+            {
+                Vats.attack(player, payload.entityId());
+            }
+        });
+    }
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type()
+    {
+        return TYPE;
+    }
+}
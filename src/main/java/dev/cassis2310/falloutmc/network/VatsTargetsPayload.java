@@ -0,0 +1,49 @@
+package dev.cassis2310.falloutmc.network;
+
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import org.jetbrains.annotations.NotNull;
+
+import static dev.cassis2310.falloutmc.utils.helpers.ResourceHelpers.falloutMcResource;
+
+/**
+ * Sent to a player who activated VATS, with the targets of their session. Handled by
+ * {@code client.ClientPayloadHandler}, on the client only.
+ *
+ * @param entityIds the ids of the targets, most likely to be hit first
+ * @param chances   the hit chance of each target, from 0 to 1
+ */
+public record VatsTargetsPayload(int[] entityIds, float[] chances) implements CustomPacketPayload
+{
+    public static final Type<VatsTargetsPayload> TYPE = new Type<>(falloutMcResource("vats_targets"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, VatsTargetsPayload> STREAM_CODEC = StreamCodec.of(
+            (buf, payload) -> {
+                VarInt.write(buf, payload.entityIds().length);
+                for (int i = 0; i < payload.entityIds().length; i++)
+                {
+                    VarInt.write(buf, payload.entityIds()[i]);
+                    buf.writeByte(Math.round(payload.chances()[i] * 100));
+                }
+            },
+            buf -> {
+                final int count = VarInt.read(buf);
+                final int[] entityIds = new int[count];
+                final float[] chances = new float[count];
+                for (int i = 0; i < count; i++)
+                {
+                    entityIds[i] = VarInt.read(buf);
+                    chances[i] = buf.readUnsignedByte() / 100F;
+                }
+                return new VatsTargetsPayload(entityIds, chances);
+            }
+    );
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type()
+    {
+        return TYPE;
+    }
+}
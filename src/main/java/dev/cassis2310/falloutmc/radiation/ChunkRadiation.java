@@ -0,0 +1,160 @@
+package dev.cassis2310.falloutmc.radiation;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.neoforged.neoforge.common.util.INBTSerializable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
+
+/**
+ * The radiation field of a chunk, attached to the chunk and saved with it.
+ *
+ * <p>Only sections holding radiation are stored, keyed by section y, each as a palette compressed
+ * {@link RadiationSection}. Chunks without radiation hold no sections at all.</p>
+ *
+ * <p>The levels are only valid for the block emissions and attenuations they were computed against, so the
+ * {@link RadiationSources#getFingerprint() fingerprint} of those tables is saved alongside them.</p>
+ */
+public class ChunkRadiation implements INBTSerializable<CompoundTag>
+{
+    private final Int2ObjectMap<RadiationSection> sections = new Int2ObjectOpenHashMap<>();
+    private int fingerprint = RadiationSources.getFingerprint();
+
+    /**
+     * @return the fingerprint of the radiation sources the levels were computed against
+     */
+    public int getFingerprint()
+    {
+        return fingerprint;
+    }
+
+    /**
+     * Records the radiation sources the levels were computed against. The caller must mark the chunk
+     * unsaved.
+     *
+     * @param fingerprint the fingerprint, see {@link RadiationSources#getFingerprint()}
+     */
+    public void setFingerprint(int fingerprint)
+    {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Returns the section at the given section y coordinate.
+     *
+     * @param sectionY the section y coordinate
+     * @return the section, or {@code null} if it holds no radiation
+     */
+    @Nullable
+    public RadiationSection getSection(int sectionY)
+    {
+        return sections.get(sectionY);
+    }
+
+    /**
+     * Returns the radiation level of a block.
+     *
+     * @param x the block x coordinate
+     * @param y the block y coordinate
+     * @param z the block z coordinate
+     * @return the radiation level
+     */
+    public int get(int x, int y, int z)
+    {
+        final RadiationSection section = sections.get(y >> 4);
+        return section == null ? 0 : section.get(RadiationSection.index(x, y, z));
+    }
+
+    /**
+     * Sets the radiation level of a block. The caller must mark the chunk unsaved.
+     *
+     * @param x     the block x coordinate
+     * @param y     the block y coordinate
+     * @param z     the block z coordinate
+     * @param level the radiation level
+     * @return the previous radiation level
+     */
+    public int set(int x, int y, int z, int level)
+    {
+        final int sectionY = y >> 4;
+        RadiationSection section = sections.get(sectionY);
+        if (section == null)
+        {
+            if (level == 0)
+            {
+                return 0;
+            }
+            section = new RadiationSection();
+            sections.put(sectionY, section);
+        }
+
+        final int previous = section.set(RadiationSection.index(x, y, z), level);
+        if (section.isEmpty())
+        {
+            sections.remove(sectionY);
+        }
+        return previous;
+    }
+
+    /**
+     * Returns the sum of the radiation levels of every block in a section.
+     *
+     * @param sectionY the section y coordinate
+     * @return the total, or 0 if the section holds no radiation
+     */
+    public long getSectionTotal(int sectionY)
+    {
+        final RadiationSection section = sections.get(sectionY);
+        return section == null ? 0 : section.getTotal();
+    }
+
+    /**
+     * @return whether no section of the chunk holds any radiation
+     */
+    public boolean isEmpty()
+    {
+        return sections.isEmpty();
+    }
+
+    @Override
+    public @UnknownNullability CompoundTag serializeNBT(HolderLookup.@NotNull Provider provider)
+    {
+        final CompoundTag tag = new CompoundTag();
+        final ListTag list = new ListTag();
+        for (Int2ObjectMap.Entry<RadiationSection> entry : sections.int2ObjectEntrySet())
+        {
+            final CompoundTag sectionTag = entry.getValue().save();
+            if (sectionTag != null)
+            {
+                sectionTag.putInt("y", entry.getIntKey());
+                list.add(sectionTag);
+            }
+        }
+        tag.put("sections", list);
+        tag.putInt("sources", fingerprint);
+        return tag;
+    }
+
+    @Override
+    public void deserializeNBT(HolderLookup.@NotNull Provider provider, @NotNull CompoundTag tag)
+    {
+        sections.clear();
+        // Chunks saved without a fingerprint are checked in full once loaded
+        fingerprint = tag.getInt("sources");
+        final ListTag list = tag.getList("sections", Tag.TAG_COMPOUND);
+        for (int i = 0; i < list.size(); i++)
+        {
+            final CompoundTag sectionTag = list.getCompound(i);
+            final RadiationSection section = RadiationSection.load(sectionTag);
+            if (!section.isEmpty())
+            {
+                sections.put(sectionTag.getInt("y"), section);
+            }
+        }
+    }
+}
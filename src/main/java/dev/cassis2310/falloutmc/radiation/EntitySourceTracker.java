@@ -0,0 +1,96 @@
+package dev.cassis2310.falloutmc.radiation;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.Entity;
+
+/**
+ * Tracks the radiation emitted by the entities of a level, summed per chunk section.
+ *
+ * <p>Entities are only touched when they join or leave the level or move into another section, so the
+ * total of a section is always up to date without scanning any entity. The tracker is attached to the
+ * level and never saved, since entities are tracked again as they are loaded.</p>
+ */
+public class EntitySourceTracker
+{
+    private final Long2IntMap sectionTotals = new Long2IntOpenHashMap();
+    private final Int2LongMap entitySections = new Int2LongOpenHashMap();
+    private final Int2IntMap entityIntensities = new Int2IntOpenHashMap();
+
+    /**
+     * Starts tracking an entity, or updates the radiation it emits.
+     *
+     * @param entity    the entity
+     * @param intensity the radiation emitted by the entity
+     */
+    public void track(Entity entity, int intensity)
+    {
+        untrack(entity);
+        if (intensity > 0)
+        {
+            final long section = SectionPos.asLong(entity.blockPosition());
+            entitySections.put(entity.getId(), section);
+            entityIntensities.put(entity.getId(), intensity);
+            sectionTotals.mergeInt(section, intensity, Integer::sum);
+        }
+    }
+
+    /**
+     * Moves a tracked entity into another section. Does nothing for entities that are not tracked.
+     *
+     * @param entity  the entity
+     * @param section the {@link SectionPos#asLong() packed position} of the section it moved into
+     */
+    public void move(Entity entity, long section)
+    {
+        if (!entityIntensities.containsKey(entity.getId()))
+        {
+            return;
+        }
+        final int intensity = entityIntensities.get(entity.getId());
+        remove(entitySections.put(entity.getId(), section), intensity);
+        sectionTotals.mergeInt(section, intensity, Integer::sum);
+    }
+
+    /**
+     * Stops tracking an entity.
+     *
+     * @param entity the entity
+     */
+    public void untrack(Entity entity)
+    {
+        if (entityIntensities.containsKey(entity.getId()))
+        {
+            remove(entitySections.remove(entity.getId()), entityIntensities.remove(entity.getId()));
+        }
+    }
+
+    private void remove(long section, int intensity)
+    {
+        final int total = sectionTotals.get(section) - intensity;
+        if (total > 0)
+        {
+            sectionTotals.put(section, total);
+        }
+        else
+        {
+            sectionTotals.remove(section);
+        }
+    }
+
+    /**
+     * Returns the radiation emitted by the entities in a section.
+     *
+     * @param section the {@link SectionPos#asLong() packed position} of the section
+     * @return the summed intensity of the tracked entities in the section
+     */
+    public int getSectionTotal(long section)
+    {
+        return sectionTotals.get(section);
+    }
+}
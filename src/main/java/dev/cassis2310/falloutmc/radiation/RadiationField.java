@@ -0,0 +1,218 @@
+package dev.cassis2310.falloutmc.radiation;
+
+import dev.cassis2310.falloutmc.Config;
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+/**
+ * The world radiation field.
+ *
+ * <p>Block radiation is stored per chunk in a {@link ChunkRadiation} attachment, and entity radiation is
+ * summed per section by the level's {@link EntitySourceTracker}. Both are kept up to date as blocks change
+ * and entities move, so every query is a couple of array and hash lookups, and nothing scans the loaded
+ * chunks or entities on tick.</p>
+ *
+ * <p>Block radiation spreads from its sources and is shielded by the blocks in between. It is updated
+ * incrementally by the level's {@link RadiationPropagator}, so the stored levels may lag behind a block
+ * change by a few ticks.</p>
+ *
+ * <p>Radiation is only simulated on the server. Queries against chunks that are not loaded return 0
+ * rather than loading them.</p>
+ */
+public class RadiationField
+{
+    private RadiationField()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Returns the radiation a living entity is exposed to at a position: the radiation of the block, plus
+     * the radiation emitted by entities in the same chunk section.
+     *
+     * @param level the level
+     * @param pos   the position
+     * @return the exposure
+     */
+    public static int getExposure(ServerLevel level, BlockPos pos)
+    {
+        return getBlockRadiation(level, pos) + level.getData(FalloutMcAttachments.ENTITY_RADIATION_SOURCES).getSectionTotal(SectionPos.asLong(pos));
+    }
+
+    /**
+     * Returns the radiation level of a block.
+     *
+     * @param level the level
+     * @param pos   the position of the block
+     * @return the radiation level, or 0 if the chunk is not loaded
+     */
+    public static int getBlockRadiation(ServerLevel level, BlockPos pos)
+    {
+        final LevelChunk chunk = level.getChunkSource().getChunkNow(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+        if (chunk == null || !chunk.hasData(FalloutMcAttachments.CHUNK_RADIATION))
+        {
+            return 0;
+        }
+        return chunk.getData(FalloutMcAttachments.CHUNK_RADIATION).get(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Returns the total radiation of a chunk section: the sum of the radiation levels of its blocks, plus
+     * the radiation emitted by the entities in it.
+     *
+     * @param level   the level
+     * @param section the section
+     * @return the total, or only the entity radiation if the chunk is not loaded
+     */
+    public static long getSectionTotal(ServerLevel level, SectionPos section)
+    {
+        long total = level.getData(FalloutMcAttachments.ENTITY_RADIATION_SOURCES).getSectionTotal(section.asLong());
+        final LevelChunk chunk = level.getChunkSource().getChunkNow(section.x(), section.z());
+        if (chunk != null && chunk.hasData(FalloutMcAttachments.CHUNK_RADIATION))
+        {
+            total += chunk.getData(FalloutMcAttachments.CHUNK_RADIATION).getSectionTotal(section.y());
+        }
+        return total;
+    }
+
+    /**
+     * Sets the radiation level of a block.
+     *
+     * @param level     the level
+     * @param pos       the position of the block
+     * @param radiation the radiation level
+     */
+    public static void setBlockRadiation(ServerLevel level, BlockPos pos, int radiation)
+    {
+        final LevelChunk chunk = level.getChunkSource().getChunkNow(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+        if (chunk == null || (radiation == 0 && !chunk.hasData(FalloutMcAttachments.CHUNK_RADIATION)))
+        {
+            return;
+        }
+        if (chunk.getData(FalloutMcAttachments.CHUNK_RADIATION).set(pos.getX(), pos.getY(), pos.getZ(), radiation) != radiation)
+        {
+            chunk.setUnsaved(true);
+        }
+    }
+
+    /**
+     * Schedules the field updates needed after a block changed, as a source or as shielding.
+     *
+     * @param level the level
+     * @param pos   the position of the block
+     * @param state the new state of the block
+     */
+    public static void onBlockChanged(ServerLevel level, BlockPos pos, BlockState state)
+    {
+        level.getData(FalloutMcAttachments.RADIATION_PROPAGATOR).onBlockChanged(level, pos, state);
+    }
+
+    /**
+     * Schedules the sources of a chunk that was loaded to be seeded.
+     *
+     * @param level the level
+     * @param pos   the position of the chunk
+     */
+    public static void onChunkLoaded(ServerLevel level, ChunkPos pos)
+    {
+        level.getData(FalloutMcAttachments.RADIATION_PROPAGATOR).onChunkLoaded(pos);
+    }
+
+    /**
+     * Forgets a chunk that was unloaded.
+     *
+     * @param level the level
+     * @param pos   the position of the chunk
+     */
+    public static void onChunkUnloaded(ServerLevel level, ChunkPos pos)
+    {
+        if (level.hasData(FalloutMcAttachments.RADIATION_PROPAGATOR))
+        {
+            level.getData(FalloutMcAttachments.RADIATION_PROPAGATOR).onChunkUnloaded(pos);
+        }
+    }
+
+    /**
+     * Schedules every loaded chunk to be checked against the sources, after they were rebuilt.
+     *
+     * @param server the server
+     */
+    public static void onSourcesRebuilt(MinecraftServer server)
+    {
+        for (ServerLevel level : server.getAllLevels())
+        {
+            if (level.hasData(FalloutMcAttachments.RADIATION_PROPAGATOR))
+            {
+                level.getData(FalloutMcAttachments.RADIATION_PROPAGATOR).onSourcesRebuilt();
+            }
+        }
+    }
+
+    /**
+     * Processes the pending field updates of a level, within the configured budget.
+     *
+     * @param level the level
+     */
+    public static void tick(ServerLevel level)
+    {
+        if (level.hasData(FalloutMcAttachments.RADIATION_PROPAGATOR))
+        {
+            final RadiationPropagator propagator = level.getData(FalloutMcAttachments.RADIATION_PROPAGATOR);
+            if (!propagator.isIdle())
+            {
+                propagator.tick(level, Config.radiationUpdatesPerTick);
+            }
+        }
+    }
+
+    /**
+     * Registers an entity as a source if it emits radiation.
+     *
+     * @param level  the level the entity joined
+     * @param entity the entity
+     */
+    public static void onEntityJoined(ServerLevel level, Entity entity)
+    {
+        final int emission = RadiationSources.getEmission(entity);
+        if (emission > 0)
+        {
+            level.getData(FalloutMcAttachments.ENTITY_RADIATION_SOURCES).track(entity, emission);
+        }
+    }
+
+    /**
+     * Moves an entity's radiation into the section it entered.
+     *
+     * @param level   the level
+     * @param entity  the entity
+     * @param section the section it entered
+     */
+    public static void onEntityMoved(ServerLevel level, Entity entity, SectionPos section)
+    {
+        if (level.hasData(FalloutMcAttachments.ENTITY_RADIATION_SOURCES))
+        {
+            level.getData(FalloutMcAttachments.ENTITY_RADIATION_SOURCES).move(entity, section.asLong());
+        }
+    }
+
+    /**
+     * Removes an entity's radiation when it leaves the level.
+     *
+     * @param level  the level
+     * @param entity the entity
+     */
+    public static void onEntityLeft(ServerLevel level, Entity entity)
+    {
+        if (level.hasData(FalloutMcAttachments.ENTITY_RADIATION_SOURCES))
+        {
+            level.getData(FalloutMcAttachments.ENTITY_RADIATION_SOURCES).untrack(entity);
+        }
+    }
+}
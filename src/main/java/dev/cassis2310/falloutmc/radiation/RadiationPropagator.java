@@ -0,0 +1,343 @@
+package dev.cassis2310.falloutmc.radiation;
+
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+/**
+ * Spreads block radiation through a level, modelled on the vanilla light engine.
+ *
+ * <p>Radiation loses one level for every block it travels, plus the attenuation of the block it enters,
+ * see {@link RadiationSources#getAttenuation(BlockState)}. The field is only updated around blocks that
+ * change: an increase is flooded outwards breadth first, and a decrease first clears every block that was
+ * reached through the changed block, then floods back in from the edges of the cleared region and from any
+ * source inside it.</p>
+ *
+ * <p>Changes only enqueue work. The queues are drained on the level tick within a budget of block updates,
+ * so a large explosion spreads its updates over several ticks instead of stalling the server. Blocks in
+ * chunks that are not loaded are treated as the edge of the field. Once such a chunk loads, the radiated
+ * blocks on both sides of its borders with loaded chunks are flooded again, so a field cut off at the edge
+ * spreads across it.</p>
+ *
+ * <p>Sources that never changed with neighbour updates, such as those placed by world generation or saved
+ * before the mod was installed, are seeded as their chunk loads: the sections that may hold a source are
+ * checked block by block on the next tick. Chunks whose levels were computed against other sources, see
+ * {@link ChunkRadiation#getFingerprint()}, have their radiated blocks checked as well, and every loaded
+ * chunk is checked again whenever the sources are rebuilt.</p>
+ */
+public class RadiationPropagator
+{
+    /** The highest radiation level of a block, which bounds how far a single source spreads. */
+    public static final int MAX_LEVEL = 31;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final LongArrayFIFOQueue increases = new LongArrayFIFOQueue();
+    private final LongArrayFIFOQueue decreases = new LongArrayFIFOQueue();
+    private final IntArrayFIFOQueue decreaseLevels = new IntArrayFIFOQueue();
+    private final LongLinkedOpenHashSet pendingChunks = new LongLinkedOpenHashSet();
+    private final LongOpenHashSet loadedChunks = new LongOpenHashSet();
+    private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+    private final BlockPos.MutableBlockPos seedCursor = new BlockPos.MutableBlockPos();
+
+    /**
+     * Schedules the blocks of a chunk that was loaded to be checked against the current sources.
+     *
+     * @param pos the position of the chunk
+     */
+    public void onChunkLoaded(ChunkPos pos)
+    {
+        loadedChunks.add(pos.toLong());
+        pendingChunks.add(pos.toLong());
+    }
+
+    /**
+     * Forgets a chunk that was unloaded.
+     *
+     * @param pos the position of the chunk
+     */
+    public void onChunkUnloaded(ChunkPos pos)
+    {
+        loadedChunks.remove(pos.toLong());
+        pendingChunks.remove(pos.toLong());
+    }
+
+    /**
+     * Schedules every loaded chunk to be checked again, after the sources were rebuilt.
+     */
+    public void onSourcesRebuilt()
+    {
+        pendingChunks.addAll(loadedChunks);
+    }
+
+    /**
+     * Enqueues the updates needed after a block changed. Most changes, such as a block that neither emits
+     * nor changes what reaches it, need none.
+     *
+     * @param level the level
+     * @param pos   the position of the block
+     * @param state the new state of the block
+     */
+    public void onBlockChanged(ServerLevel level, BlockPos pos, BlockState state)
+    {
+        final int current = RadiationField.getBlockRadiation(level, pos);
+        final int expected = expectedLevel(level, pos, state);
+        if (expected == current)
+        {
+            return;
+        }
+
+        if (expected > current)
+        {
+            RadiationField.setBlockRadiation(level, pos, expected);
+            increases.enqueue(pos.asLong());
+            return;
+        }
+
+        // The neighbours may have been reached through this block, so only its own emission is kept, and
+        // whatever still reaches it floods back in once the decrease has been propagated
+        RadiationField.setBlockRadiation(level, pos, 0);
+        decreases.enqueue(pos.asLong());
+        decreaseLevels.enqueue(current);
+
+        final int emission = RadiationSources.getEmission(state);
+        if (emission > 0)
+        {
+            RadiationField.setBlockRadiation(level, pos, emission);
+            increases.enqueue(pos.asLong());
+        }
+    }
+
+    // The level a block should have from its own emission and the radiation reaching it from its neighbours
+    private int expectedLevel(ServerLevel level, BlockPos pos, BlockState state)
+    {
+        final int attenuation = RadiationSources.getAttenuation(state);
+        int expected = RadiationSources.getEmission(state);
+        for (Direction direction : DIRECTIONS)
+        {
+            cursor.setWithOffset(pos, direction);
+            expected = Math.max(expected, RadiationField.getBlockRadiation(level, cursor) - 1 - attenuation);
+        }
+        return expected;
+    }
+
+    /**
+     * @return whether there are no pending updates
+     */
+    public boolean isIdle()
+    {
+        return increases.isEmpty() && decreases.isEmpty() && pendingChunks.isEmpty();
+    }
+
+    /**
+     * Processes pending updates: seeds loaded chunks first, then decreases, then increases. A chunk is
+     * always seeded as a whole, so seeding may overrun the budget by up to a chunk.
+     *
+     * @param level  the level
+     * @param budget the maximum number of blocks to process
+     */
+    public void tick(ServerLevel level, int budget)
+    {
+        while (budget > 0 && !pendingChunks.isEmpty())
+        {
+            final long pos = pendingChunks.removeFirstLong();
+            final LevelChunk chunk = level.getChunkSource().getChunkNow(ChunkPos.getX(pos), ChunkPos.getZ(pos));
+            if (chunk != null)
+            {
+                budget -= seed(level, chunk);
+                floodBorders(level, chunk);
+            }
+        }
+        while (budget > 0 && !decreases.isEmpty())
+        {
+            propagateDecrease(level, BlockPos.of(decreases.dequeueLong()), decreaseLevels.dequeueInt());
+            budget--;
+        }
+        while (budget > 0 && !increases.isEmpty())
+        {
+            propagateIncrease(level, BlockPos.of(increases.dequeueLong()));
+            budget--;
+        }
+    }
+
+    // Checks the sources of a chunk, and its radiated blocks if the levels are stale, and returns the number
+    // of sections and blocks checked
+    private int seed(ServerLevel level, LevelChunk chunk)
+    {
+        final ChunkRadiation radiation = chunk.hasData(FalloutMcAttachments.CHUNK_RADIATION) ? chunk.getData(FalloutMcAttachments.CHUNK_RADIATION) : null;
+        final int fingerprint = RadiationSources.getFingerprint();
+        final boolean stale = radiation != null && radiation.getFingerprint() != fingerprint;
+        final int minX = chunk.getPos().getMinBlockX();
+        final int minZ = chunk.getPos().getMinBlockZ();
+        final LevelChunkSection[] sections = chunk.getSections();
+
+        int checked = 0;
+        for (int i = 0; i < sections.length; i++)
+        {
+            final LevelChunkSection section = sections[i];
+            final int sectionY = chunk.getSectionYFromSectionIndex(i);
+            // The palette rules out most sections without looking at a single block
+            final boolean emits = !section.hasOnlyAir() && section.maybeHas(state -> RadiationSources.getEmission(state) > 0);
+            final boolean radiated = stale && radiation.getSection(sectionY) != null;
+            if (!emits && !radiated)
+            {
+                continue;
+            }
+
+            final int minY = SectionPos.sectionToBlockCoord(sectionY);
+            for (int y = 0; y < SectionPos.SECTION_SIZE; y++)
+            {
+                for (int z = 0; z < SectionPos.SECTION_SIZE; z++)
+                {
+                    for (int x = 0; x < SectionPos.SECTION_SIZE; x++)
+                    {
+                        final BlockState state = section.getBlockState(x, y, z);
+                        if (RadiationSources.getEmission(state) > 0 || (radiated && radiation.get(minX + x, minY + y, minZ + z) > 0))
+                        {
+                            onBlockChanged(level, seedCursor.set(minX + x, minY + y, minZ + z), state);
+                            checked++;
+                        }
+                    }
+                }
+            }
+            checked++;
+        }
+
+        if (stale)
+        {
+            radiation.setFingerprint(fingerprint);
+            chunk.setUnsaved(true);
+        }
+        return checked;
+    }
+
+    // Enqueues the radiated blocks on both sides of the borders a chunk shares with loaded chunks as
+    // increases, since neither field could spread across while the chunk was unloaded
+    private void floodBorders(ServerLevel level, LevelChunk chunk)
+    {
+        for (Direction direction : Direction.Plane.HORIZONTAL)
+        {
+            final LevelChunk neighbor = level.getChunkSource().getChunkNow(chunk.getPos().x + direction.getStepX(), chunk.getPos().z + direction.getStepZ());
+            if (neighbor != null)
+            {
+                enqueueBorder(chunk, direction);
+                enqueueBorder(neighbor, direction.getOpposite());
+            }
+        }
+    }
+
+    // Enqueues the blocks along one border of a chunk that hold enough radiation to spread
+    private void enqueueBorder(LevelChunk chunk, Direction direction)
+    {
+        if (!chunk.hasData(FalloutMcAttachments.CHUNK_RADIATION))
+        {
+            return;
+        }
+
+        final ChunkRadiation radiation = chunk.getData(FalloutMcAttachments.CHUNK_RADIATION);
+        final boolean alongX = direction.getAxis() == Direction.Axis.Z;
+        final int edge = direction.getAxisDirection() == Direction.AxisDirection.POSITIVE ? SectionPos.SECTION_MAX_INDEX : 0;
+        final int minX = chunk.getPos().getMinBlockX();
+        final int minZ = chunk.getPos().getMinBlockZ();
+        for (int sectionY = chunk.getMinSection(); sectionY < chunk.getMaxSection(); sectionY++)
+        {
+            if (radiation.getSection(sectionY) == null)
+            {
+                continue;
+            }
+
+            final int minY = SectionPos.sectionToBlockCoord(sectionY);
+            for (int y = minY; y < minY + SectionPos.SECTION_SIZE; y++)
+            {
+                for (int i = 0; i < SectionPos.SECTION_SIZE; i++)
+                {
+                    final int x = minX + (alongX ? i : edge);
+                    final int z = minZ + (alongX ? edge : i);
+                    if (radiation.get(x, y, z) > 1)
+                    {
+                        increases.enqueue(BlockPos.asLong(x, y, z));
+                    }
+                }
+            }
+        }
+    }
+
+    private void propagateDecrease(ServerLevel level, BlockPos pos, int previous)
+    {
+        for (Direction direction : DIRECTIONS)
+        {
+            cursor.setWithOffset(pos, direction);
+            final LevelChunk chunk = chunkAt(level, cursor);
+            if (chunk == null)
+            {
+                continue;
+            }
+
+            final int neighbor = RadiationField.getBlockRadiation(level, cursor);
+            if (neighbor == 0)
+            {
+                continue;
+            }
+            if (neighbor < previous)
+            {
+                // Reached through the cleared block, so clear it as well, keeping any emission of its own
+                RadiationField.setBlockRadiation(level, cursor, 0);
+                decreases.enqueue(cursor.asLong());
+                decreaseLevels.enqueue(neighbor);
+
+                final int emission = RadiationSources.getEmission(chunk.getBlockState(cursor));
+                if (emission > 0)
+                {
+                    RadiationField.setBlockRadiation(level, cursor, emission);
+                    increases.enqueue(cursor.asLong());
+                }
+            }
+            else
+            {
+                // Lit independently, so it floods back into the cleared region
+                increases.enqueue(cursor.asLong());
+            }
+        }
+    }
+
+    private void propagateIncrease(ServerLevel level, BlockPos pos)
+    {
+        final int radiation = RadiationField.getBlockRadiation(level, pos);
+        if (radiation <= 1)
+        {
+            return;
+        }
+
+        for (Direction direction : DIRECTIONS)
+        {
+            cursor.setWithOffset(pos, direction);
+            final LevelChunk chunk = chunkAt(level, cursor);
+            if (chunk == null || level.isOutsideBuildHeight(cursor))
+            {
+                continue;
+            }
+
+            final int spread = radiation - 1 - RadiationSources.getAttenuation(chunk.getBlockState(cursor));
+            if (spread > RadiationField.getBlockRadiation(level, cursor))
+            {
+                RadiationField.setBlockRadiation(level, cursor, spread);
+                increases.enqueue(cursor.asLong());
+            }
+        }
+    }
+
+    private static LevelChunk chunkAt(ServerLevel level, BlockPos pos)
+    {
+        return level.getChunkSource().getChunkNow(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+}
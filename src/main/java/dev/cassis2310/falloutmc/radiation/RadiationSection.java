@@ -0,0 +1,223 @@
+package dev.cassis2310.falloutmc.radiation;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.util.Mth;
+import net.minecraft.util.SimpleBitStorage;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * The radiation level of every block in a 16x16x16 chunk section, stored with a palette.
+ *
+ * <p>Most sections are entirely free of radiation, and the rest only hold a handful of distinct levels, so
+ * the levels are stored like vanilla block states: every distinct level gets an entry in a small palette,
+ * and each block only stores the index of its entry, packed into as few bits as the palette needs. An all
+ * zero section has no storage at all.</p>
+ *
+ * <p>The palette keeps a count of the blocks using each entry, so freed entries are reused, the section
+ * knows when it is empty again, and the total radiation of the section is kept up to date on every change.</p>
+ */
+public class RadiationSection
+{
+    /** The number of blocks in a section. */
+    public static final int SIZE = 16 * 16 * 16;
+
+    private static final int MAX_BITS = Mth.ceillog2(SIZE);
+
+    // palette[0] is always 0, the level of blocks without radiation
+    private int[] palette = new int[] {0};
+    private int[] counts = new int[] {SIZE};
+    private int paletteSize = 1;
+    private int bits;
+    private @Nullable SimpleBitStorage storage;
+    private long total;
+
+    /**
+     * Returns the index of a block within a section.
+     *
+     * @param x the block x coordinate, only the lowest four bits are used
+     * @param y the block y coordinate, only the lowest four bits are used
+     * @param z the block z coordinate, only the lowest four bits are used
+     * @return the index of the block
+     */
+    public static int index(int x, int y, int z)
+    {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    /**
+     * Returns the radiation level of a block.
+     *
+     * @param index the index of the block, see {@link #index(int, int, int)}
+     * @return the radiation level
+     */
+    public int get(int index)
+    {
+        return storage == null ? 0 : palette[storage.get(index)];
+    }
+
+    /**
+     * Sets the radiation level of a block.
+     *
+     * @param index the index of the block, see {@link #index(int, int, int)}
+     * @param level the radiation level, not negative
+     * @return the previous radiation level
+     */
+    public int set(int index, int level)
+    {
+        final int oldId = storage == null ? 0 : storage.get(index);
+        final int oldLevel = palette[oldId];
+        if (oldLevel == level)
+        {
+            return oldLevel;
+        }
+
+        final int newId = idFor(level);
+        storage.set(index, newId); // Never null here, idFor() creates it for any non-zero level
+        counts[oldId]--;
+        counts[newId]++;
+        total += level - oldLevel;
+
+        if (counts[0] == SIZE)
+        {
+            clear();
+        }
+        return oldLevel;
+    }
+
+    /**
+     * @return the sum of the radiation levels of every block in the section
+     */
+    public long getTotal()
+    {
+        return total;
+    }
+
+    /**
+     * @return whether no block in the section has any radiation
+     */
+    public boolean isEmpty()
+    {
+        return storage == null;
+    }
+
+    private void clear()
+    {
+        palette = new int[] {0};
+        counts = new int[] {SIZE};
+        paletteSize = 1;
+        bits = 0;
+        storage = null;
+        total = 0;
+    }
+
+    private int idFor(int level)
+    {
+        if (level == 0)
+        {
+            return 0;
+        }
+
+        int free = -1;
+        for (int id = 1; id < paletteSize; id++)
+        {
+            if (counts[id] == 0)
+            {
+                free = free == -1 ? id : free;
+            }
+            else if (palette[id] == level)
+            {
+                return id;
+            }
+        }
+        if (free != -1)
+        {
+            palette[free] = level;
+            return free;
+        }
+
+        if (paletteSize >= 1 << bits)
+        {
+            resize(bits + 1);
+        }
+        final int id = paletteSize++;
+        palette[id] = level;
+        counts[id] = 0;
+        return id;
+    }
+
+    private void resize(int newBits)
+    {
+        if (newBits > MAX_BITS)
+        {
+            throw new IllegalStateException("Radiation palette overflow");
+        }
+
+        final SimpleBitStorage resized = new SimpleBitStorage(newBits, SIZE);
+        if (storage != null)
+        {
+            for (int i = 0; i < SIZE; i++)
+            {
+                resized.set(i, storage.get(i));
+            }
+        }
+        storage = resized;
+        bits = newBits;
+        palette = Arrays.copyOf(palette, 1 << newBits);
+        counts = Arrays.copyOf(counts, 1 << newBits);
+    }
+
+    /**
+     * Writes the section to a tag.
+     *
+     * @return the tag, or {@code null} if the section is empty
+     */
+    @Nullable
+    public CompoundTag save()
+    {
+        if (storage == null)
+        {
+            return null;
+        }
+        final CompoundTag tag = new CompoundTag();
+        tag.putIntArray("palette", Arrays.copyOf(palette, paletteSize));
+        tag.putLongArray("data", storage.getRaw());
+        return tag;
+    }
+
+    /**
+     * Reads a section from a tag written by {@link #save()}.
+     *
+     * @param tag the tag
+     * @return the section
+     */
+    public static RadiationSection load(CompoundTag tag)
+    {
+        final RadiationSection section = new RadiationSection();
+        final int[] palette = tag.getIntArray("palette");
+        if (palette.length < 2)
+        {
+            return section;
+        }
+
+        final int bits = Math.max(1, Mth.ceillog2(palette.length));
+        final SimpleBitStorage storage = new SimpleBitStorage(bits, SIZE, tag.getLongArray("data"));
+        section.palette = Arrays.copyOf(palette, 1 << bits);
+        section.counts = new int[1 << bits];
+        section.paletteSize = palette.length;
+        section.bits = bits;
+        section.storage = storage;
+        for (int i = 0; i < SIZE; i++)
+        {
+            final int id = storage.get(i);
+            section.counts[id]++;
+            section.total += palette[id];
+        }
+        if (section.counts[0] == SIZE)
+        {
+            section.clear();
+        }
+        return section;
+    }
+}
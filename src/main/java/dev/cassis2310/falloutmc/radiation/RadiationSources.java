@@ -0,0 +1,119 @@
+package dev.cassis2310.falloutmc.radiation;
+
+import dev.cassis2310.falloutmc.datagen.codecs.radiation.RadiationSource;
+import dev.cassis2310.falloutmc.datagen.datamaps.FalloutMcDataMaps;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.Arrays;
+
+/**
+ * Resolves the radiation emitted by blocks and entities from the {@link FalloutMcDataMaps#BLOCK_RADIATION}
+ * and {@link FalloutMcDataMaps#ENTITY_RADIATION} data maps.
+ *
+ * <p>Block emissions and attenuations are looked up on every block change and while radiation spreads, so
+ * they are flattened into tables indexed by block state id whenever the data maps are (re)loaded.</p>
+ *
+ * <p>The attenuation of a block state is the number of levels radiation loses entering it, on top of the
+ * one level lost per block travelled. Air and other blocks that do not occlude let radiation through, fluids
+ * take one level, and full blocks take a level for every three points of explosion resistance, so stone
+ * takes two and obsidian stops radiation entirely.</p>
+ */
+public class RadiationSources
+{
+    private static volatile int[] blockEmissions = new int[0];
+    private static volatile byte[] blockAttenuations = new byte[0];
+    private static volatile int fingerprint;
+
+    private RadiationSources()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Returns the radiation emitted by a block state.
+     *
+     * @param state the block state
+     * @return the emitted radiation, or 0
+     */
+    public static int getEmission(BlockState state)
+    {
+        final int[] table = blockEmissions;
+        final int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+        return id >= 0 && id < table.length ? table[id] : 0;
+    }
+
+    /**
+     * Returns the number of radiation levels lost entering a block state.
+     *
+     * @param state the block state
+     * @return the attenuation
+     */
+    public static int getAttenuation(BlockState state)
+    {
+        final byte[] table = blockAttenuations;
+        final int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+        return id >= 0 && id < table.length ? table[id] : 0;
+    }
+
+    /**
+     * Returns a hash of the block emission and attenuation tables. Chunks record it with their radiation,
+     * so that levels computed against other tables can be recognised and checked again.
+     *
+     * @return the fingerprint of the current tables
+     */
+    public static int getFingerprint()
+    {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the radiation emitted by an entity.
+     *
+     * @param entity the entity
+     * @return the emitted radiation, or 0
+     */
+    public static int getEmission(Entity entity)
+    {
+        final RadiationSource source = entity.getType().builtInRegistryHolder().getData(FalloutMcDataMaps.ENTITY_RADIATION);
+        return source == null ? 0 : source.intensity();
+    }
+
+    /**
+     * Rebuilds the block state emission and attenuation tables from the current data maps of the block
+     * registry. Emissions are capped at {@link RadiationPropagator#MAX_LEVEL}.
+     */
+    public static void rebuild()
+    {
+        final int[] emissions = new int[Block.BLOCK_STATE_REGISTRY.size()];
+        final byte[] attenuations = new byte[emissions.length];
+        for (BlockState state : Block.BLOCK_STATE_REGISTRY)
+        {
+            final int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+            final RadiationSource source = state.getBlock().builtInRegistryHolder().getData(FalloutMcDataMaps.BLOCK_RADIATION);
+            if (source != null)
+            {
+                emissions[id] = Math.min(source.intensity(), RadiationPropagator.MAX_LEVEL);
+            }
+            attenuations[id] = (byte) attenuationOf(state);
+        }
+        blockEmissions = emissions;
+        blockAttenuations = attenuations;
+        fingerprint = 31 * Arrays.hashCode(emissions) + Arrays.hashCode(attenuations);
+    }
+
+    private static int attenuationOf(BlockState state)
+    {
+        if (state.isAir())
+        {
+            return 0;
+        }
+        if (state.canOcclude())
+        {
+            return Mth.clamp(Mth.ceil(state.getBlock().getExplosionResistance() / 3.0F), 1, RadiationPropagator.MAX_LEVEL);
+        }
+        return state.getFluidState().isEmpty() ? 0 : 1;
+    }
+}
@@ -0,0 +1,220 @@
+package dev.cassis2310.falloutmc.survival;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.item.Item;
+import net.neoforged.neoforge.attachment.IAttachmentHolder;
+import net.neoforged.neoforge.common.util.INBTSerializable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+/**
+ * The addictions of a player, one entry per addictive substance they have taken.
+ *
+ * <p>Nothing is counted down over time. Each substance only stores the game time of its most recent doses
+ * and when the player became addicted, and tolerance, withdrawal and recovery are all computed from these
+ * timestamps when they are read. A player who takes nothing costs nothing, online or not, and since the
+ * timestamps are game times, addictions keep progressing while a player is offline.</p>
+ *
+ * <ul>
+ *     <li>Tolerance is the sum of every recorded dose, each halving every {@link #TOLERANCE_HALF_LIFE} ticks.</li>
+ *     <li>A dose taking the tolerance to {@link #ADDICTION_THRESHOLD} or above addicts the player.</li>
+ *     <li>An addicted player is in withdrawal once {@link #WITHDRAWAL_DELAY} ticks have passed since their
+ *     last dose, and recovers once {@link #RECOVERY_TIME} ticks have passed. {@link SurvivalScheduler}
+ *     weakens players in withdrawal until they take the substance again or recover.</li>
+ * </ul>
+ */
+public class Addictions implements INBTSerializable<CompoundTag>
+{
+    /** The number of most recent doses remembered per substance. */
+    public static final int HISTORY = 8;
+    /** The ticks after which a dose counts half towards tolerance, one in-game day. */
+    public static final long TOLERANCE_HALF_LIFE = 24000;
+    /** The tolerance at which a dose addicts the player. */
+    public static final double ADDICTION_THRESHOLD = 3;
+    /** The ticks without a dose after which an addicted player is in withdrawal. */
+    public static final long WITHDRAWAL_DELAY = 24000;
+    /** The ticks without a dose after which an addiction is gone. */
+    public static final long RECOVERY_TIME = 7 * 24000;
+
+    // Below it, a substance that is not addictive anymore is forgotten on the next dose or save
+    private static final double FORGOTTEN_TOLERANCE = 0.01;
+
+    private final IAttachmentHolder holder;
+    private final Reference2ObjectMap<Item, Substance> substances = new Reference2ObjectOpenHashMap<>();
+
+    public Addictions(IAttachmentHolder holder)
+    {
+        this.holder = holder;
+    }
+
+    /**
+     * Records a dose of an addictive substance.
+     *
+     * @param item the substance
+     * @param now  the current game time
+     * @return whether the dose addicted the player
+     */
+    public boolean recordDose(Item item, long now)
+    {
+        prune(now);
+        final Substance substance = substances.computeIfAbsent(item, key -> new Substance());
+        if (substance.addictedSince >= 0 && now - substance.lastDose() >= RECOVERY_TIME)
+        {
+            substance.addictedSince = -1;
+        }
+
+        substance.add(now);
+        if (substance.addictedSince < 0 && substance.tolerance(now) >= ADDICTION_THRESHOLD)
+        {
+            substance.addictedSince = now;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param item the substance
+     * @param now  the current game time
+     * @return whether the player is addicted to the substance
+     */
+    public boolean isAddicted(Item item, long now)
+    {
+        final Substance substance = substances.get(item);
+        return substance != null && substance.isAddicted(now);
+    }
+
+    /**
+     * @param now the current game time
+     * @return whether the player is in withdrawal from any substance
+     */
+    public boolean isInAnyWithdrawal(long now)
+    {
+        for (Substance substance : substances.values())
+        {
+            if (substance.isInWithdrawal(now))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public @UnknownNullability CompoundTag serializeNBT(HolderLookup.@NotNull Provider provider)
+    {
+        if (holder instanceof Entity entity)
+        {
+            prune(entity.level().getGameTime());
+        }
+
+        final CompoundTag tag = new CompoundTag();
+        final ListTag list = new ListTag();
+        for (Reference2ObjectMap.Entry<Item, Substance> entry : substances.reference2ObjectEntrySet())
+        {
+            final Substance substance = entry.getValue();
+            final CompoundTag substanceTag = new CompoundTag();
+            substanceTag.putString("item", BuiltInRegistries.ITEM.getKey(entry.getKey()).toString());
+            substanceTag.putLongArray("doses", substance.doses());
+            if (substance.addictedSince >= 0)
+            {
+                substanceTag.putLong("addictedSince", substance.addictedSince);
+            }
+            list.add(substanceTag);
+        }
+        tag.put("substances", list);
+        return tag;
+    }
+
+    @Override
+    public void deserializeNBT(HolderLookup.@NotNull Provider provider, @NotNull CompoundTag tag)
+    {
+        substances.clear();
+        final ListTag list = tag.getList("substances", Tag.TAG_COMPOUND);
+        for (int i = 0; i < list.size(); i++)
+        {
+            final CompoundTag substanceTag = list.getCompound(i);
+            final ResourceLocation id = ResourceLocation.tryParse(substanceTag.getString("item"));
+            if (id == null || !BuiltInRegistries.ITEM.containsKey(id))
+            {
+                continue;
+            }
+
+            final Substance substance = new Substance();
+            for (long dose : substanceTag.getLongArray("doses"))
+            {
+                substance.add(dose);
+            }
+            substance.addictedSince = substanceTag.contains("addictedSince") ? substanceTag.getLong("addictedSince") : -1;
+            substances.put(BuiltInRegistries.ITEM.get(id), substance);
+        }
+    }
+
+    // Forgets the substances that neither addict the player nor add to their tolerance anymore, so that the
+    // history of a long played world does not grow forever
+    private void prune(long now)
+    {
+        substances.values().removeIf(substance -> !substance.isAddicted(now) && substance.tolerance(now) < FORGOTTEN_TOLERANCE);
+    }
+
+    /**
+     * The doses of a substance, kept in a ring of the {@link #HISTORY} most recent.
+     */
+    private static class Substance
+    {
+        private final long[] doses = new long[HISTORY];
+        private int count;
+        private int next;
+        private long addictedSince = -1;
+
+        void add(long time)
+        {
+            doses[next] = time;
+            next = (next + 1) % HISTORY;
+            count = Math.min(count + 1, HISTORY);
+        }
+
+        long lastDose()
+        {
+            return doses[Math.floorMod(next - 1, HISTORY)];
+        }
+
+        double tolerance(long now)
+        {
+            double tolerance = 0;
+            for (int i = 0; i < count; i++)
+            {
+                tolerance += Math.pow(0.5, Math.max(now - doses[i], 0) / (double) TOLERANCE_HALF_LIFE);
+            }
+            return tolerance;
+        }
+
+        boolean isAddicted(long now)
+        {
+            return addictedSince >= 0 && now - lastDose() < RECOVERY_TIME;
+        }
+
+        boolean isInWithdrawal(long now)
+        {
+            return isAddicted(now) && now - lastDose() >= WITHDRAWAL_DELAY;
+        }
+
+        // The doses, oldest first
+        long[] doses()
+        {
+            final long[] ordered = new long[count];
+            for (int i = 0; i < count; i++)
+            {
+                ordered[i] = doses[Math.floorMod(next - count + i, HISTORY)];
+            }
+            return ordered;
+        }
+    }
+}
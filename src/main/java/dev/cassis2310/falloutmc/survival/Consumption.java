@@ -0,0 +1,82 @@
+package dev.cassis2310.falloutmc.survival;
+
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import dev.cassis2310.falloutmc.datagen.codecs.effects.EffectWithDuration;
+import dev.cassis2310.falloutmc.effects.EffectStage;
+import dev.cassis2310.falloutmc.effects.TimedEffects;
+import dev.cassis2310.falloutmc.items.ItemProfile;
+import dev.cassis2310.falloutmc.items.ItemProfileCache;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.List;
+
+/**
+ * Applies the attributes of a consumed item to the entity consuming it.
+ *
+ * <p>Everything an item does comes from its {@link ItemProfile}, combining all six attribute data maps, so
+ * a consumption costs a single lookup by registry id. Health, radiation, hunger, thirst and action points
+ * are applied together, then the item's effects, a roll for disease and a dose for addiction. The stat
+ * changes reach the client with the other changes of the tick, see {@link SurvivalSync}.</p>
+ *
+ * <p>{@link dev.cassis2310.falloutmc.items.custom.WeightedItem} calls this when it is consumed, and
+ * {@link dev.cassis2310.falloutmc.events.server.ServerEventHandler} for every other item.</p>
+ */
+public class Consumption
+{
+    /** The duration of a disease caught from consuming an item, ten minutes. */
+    public static final int DISEASE_DURATION = 20 * 60 * 10;
+
+    private Consumption()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Applies the attributes of a consumed item. Must only be called on the server.
+     *
+     * @param entity the entity that consumed the item
+     * @param stack  the consumed item, before it was used up
+     * @return whether the item has consumable attributes
+     */
+    public static boolean consume(LivingEntity entity, ItemStack stack)
+    {
+        final ItemProfile profile = ItemProfileCache.get(stack);
+        if (profile == null || !profile.isConsumable() || !(entity.level() instanceof ServerLevel level))
+        {
+            return false;
+        }
+
+        if (profile.hpRestore() > 0)
+        {
+            entity.heal(profile.hpRestore());
+        }
+
+        final SurvivalStats stats = entity.getData(FalloutMcAttachments.SURVIVAL_STATS);
+        stats.addRads(profile.radiation());
+        stats.restoreHunger(profile.hungerRestore());
+        stats.restoreThirst(profile.thirstRestore());
+        stats.restoreActionPoints(profile.apBoost());
+
+        for (EffectWithDuration effect : profile.effects())
+        {
+            TimedEffects.apply(level, entity, List.of(new EffectStage(BuiltInRegistries.MOB_EFFECT.wrapAsHolder(effect.effect()), 0, effect.duration())));
+        }
+
+        final MobEffect disease = DiseaseTables.roll(stack.getItem(), entity.getRandom(), stats.getRads());
+        if (disease != null)
+        {
+            TimedEffects.apply(level, entity, List.of(new EffectStage(BuiltInRegistries.MOB_EFFECT.wrapAsHolder(disease), 0, DISEASE_DURATION)));
+        }
+
+        if (entity instanceof ServerPlayer player && profile.addiction())
+        {
+            player.getData(FalloutMcAttachments.ADDICTIONS).recordDose(stack.getItem(), level.getGameTime());
+        }
+        return true;
+    }
+}
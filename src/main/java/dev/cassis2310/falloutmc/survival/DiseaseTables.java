@@ -0,0 +1,150 @@
+package dev.cassis2310.falloutmc.survival;
+
+import com.mojang.logging.LogUtils;
+import dev.cassis2310.falloutmc.items.ItemProfile;
+import dev.cassis2310.falloutmc.items.ItemProfileCache;
+import dev.cassis2310.falloutmc.tags.FalloutMcTags;
+import dev.cassis2310.falloutmc.utils.AliasTable;
+import it.unimi.dsi.fastutil.objects.Reference2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.item.Item;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.List;
+
+import static dev.cassis2310.falloutmc.FalloutMc.MOD_NAME;
+
+/**
+ * The diseases an item may give when consumed, compiled into {@link AliasTable}s when the data maps load.
+ *
+ * <p>An item's {@code deceaseEffects} are its possible diseases. An effect listed several times is that
+ * many times more likely than one listed once, so data packs can weight diseases without a new format.
+ * The {@code deceaseChance} is the percentage chance of catching any of them, which grows with the
+ * radiation of the consumer, up to {@link #IRRADIATED_CHANCE_FACTOR} times the base chance at
+ * {@link SurvivalStats#MAX_RADS}.</p>
+ *
+ * <p>Diseases in the {@link FalloutMcTags.MobEffects#RADIATION_DISEASES} tag are also conditional: they are
+ * {@link #IRRADIATED_WEIGHT_FACTOR} times as likely for a consumer with at least {@link #IRRADIATED_RADS}.
+ * Each item is compiled into one alias table per condition bucket, irradiated or not, so the condition never
+ * changes the cost of a roll.</p>
+ *
+ * <p>Rolling a disease is a lookup by registry id and two or three random numbers, and allocates nothing.
+ * The tables are compiled again when either the data maps or the tags reload.</p>
+ */
+public class DiseaseTables
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** How much more likely diseases are for a consumer at the maximum radiation. */
+    public static final float IRRADIATED_CHANCE_FACTOR = 2;
+    /** The radiation from which a consumer rolls from the irradiated bucket. */
+    public static final float IRRADIATED_RADS = SurvivalStats.MAX_RADS / 2;
+    /** How much more likely a radiation disease is in the irradiated bucket. */
+    public static final int IRRADIATED_WEIGHT_FACTOR = 4;
+
+    private static volatile Table[] tables = new Table[0];
+
+    private DiseaseTables()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Rolls whether consuming an item gives a disease.
+     *
+     * @param item   the consumed item
+     * @param random the random source of the consumer
+     * @param rads   the radiation of the consumer, see {@link SurvivalStats#getRads()}
+     * @return the disease caught, or {@code null} if none
+     */
+    @Nullable
+    public static MobEffect roll(Item item, RandomSource random, float rads)
+    {
+        final Table[] tables = DiseaseTables.tables;
+        final int id = BuiltInRegistries.ITEM.getId(item);
+        final Table table = id >= 0 && id < tables.length ? tables[id] : null;
+        if (table == null)
+        {
+            return null;
+        }
+
+        final float chance = table.chance() * (1 + (IRRADIATED_CHANCE_FACTOR - 1) * Math.min(rads / SurvivalStats.MAX_RADS, 1));
+        if (random.nextFloat() >= chance)
+        {
+            return null;
+        }
+        final AliasTable bucket = rads >= IRRADIATED_RADS ? table.irradiated() : table.aliasTable();
+        return table.diseases()[bucket.sample(random)];
+    }
+
+    /**
+     * Compiles the tables from the explicit profiles of {@link ItemProfileCache}, which must be rebuilt first,
+     * and the {@link FalloutMcTags.MobEffects#RADIATION_DISEASES} tag.
+     *
+     * @param size the size of the item registry
+     */
+    public static void rebuild(int size)
+    {
+        final Table[] compiled = new Table[size];
+        int count = 0;
+        for (int id = 0; id < size; id++)
+        {
+            final ItemProfile profile = ItemProfileCache.explicitById(id);
+            if (profile != null && profile.deceaseChance() > 0 && !profile.deceaseEffects().isEmpty())
+            {
+                compiled[id] = compile(profile.deceaseEffects(), profile.deceaseChance());
+                count++;
+            }
+        }
+        tables = compiled;
+        LOGGER.debug("[{}]: Compiled the disease tables of {} items", MOD_NAME, count);
+    }
+
+    private static Table compile(List<MobEffect> effects, int chance)
+    {
+        final Reference2IntMap<MobEffect> weights = new Reference2IntLinkedOpenHashMap<>();
+        for (MobEffect effect : effects)
+        {
+            weights.mergeInt(effect, 1, Integer::sum);
+        }
+
+        final MobEffect[] diseases = new MobEffect[weights.size()];
+        final double[] table = new double[weights.size()];
+        final double[] irradiatedTable = new double[weights.size()];
+        boolean conditional = false;
+        int i = 0;
+        for (Reference2IntMap.Entry<MobEffect> entry : weights.reference2IntEntrySet())
+        {
+            diseases[i] = entry.getKey();
+            table[i] = entry.getIntValue();
+            if (BuiltInRegistries.MOB_EFFECT.wrapAsHolder(entry.getKey()).is(FalloutMcTags.MobEffects.RADIATION_DISEASES))
+            {
+                irradiatedTable[i] = table[i] * IRRADIATED_WEIGHT_FACTOR;
+                conditional = true;
+            }
+            else
+            {
+                irradiatedTable[i] = table[i];
+            }
+            i++;
+        }
+
+        final AliasTable aliasTable = new AliasTable(table);
+        // Without any radiation disease, both buckets are the same
+        return new Table(diseases, aliasTable, conditional ? new AliasTable(irradiatedTable) : aliasTable, Math.min(chance, 100) / 100F);
+    }
+
+    /**
+     * The compiled diseases of an item.
+     *
+     * @param diseases   the distinct diseases
+     * @param aliasTable the table sampling an index of {@code diseases}
+     * @param irradiated the table sampling an index of {@code diseases} for an irradiated consumer
+     * @param chance     the base chance of catching a disease, from 0 to 1
+     */
+    private record Table(MobEffect[] diseases, AliasTable aliasTable, AliasTable irradiated, float chance) {}
+}
@@ -0,0 +1,131 @@
+package dev.cassis2310.falloutmc.survival;
+
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import dev.cassis2310.falloutmc.radiation.RadiationField;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.effect.MobEffects;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Spreads the integration of {@link SurvivalStats} across ticks.
+ *
+ * <p>Every living entity of a level is placed in one of {@code interval} buckets by its id, and each tick
+ * only the entities of one bucket are integrated, over the whole interval. Every entity is therefore
+ * updated once per interval, and the cost of a single tick stays flat at roughly the number of entities
+ * divided by the interval, however many entities there are.</p>
+ *
+ * <p>Entities that are not players only get survival stats once they are exposed to radiation, so most
+ * mobs cost one radiation field query per interval and never get an attachment.</p>
+ *
+ * <p>Players in withdrawal from any of their {@link Addictions} are weakened on the same schedule, for two
+ * intervals at a time, so the debuff never lapses during a withdrawal and wears off soon after it ends.</p>
+ */
+public class SurvivalScheduler
+{
+    private List<Set<LivingEntity>> buckets = List.of();
+    private int interval;
+
+    /**
+     * Starts integrating the stats of an entity.
+     *
+     * @param entity the entity
+     */
+    public void add(LivingEntity entity)
+    {
+        if (interval > 0)
+        {
+            buckets.get(bucketOf(entity, interval)).add(entity);
+        }
+    }
+
+    /**
+     * Stops integrating the stats of an entity.
+     *
+     * @param entity the entity
+     */
+    public void remove(LivingEntity entity)
+    {
+        if (interval > 0)
+        {
+            buckets.get(bucketOf(entity, interval)).remove(entity);
+        }
+    }
+
+    /**
+     * Integrates the stats of the entities in the bucket of the current tick.
+     *
+     * @param level    the level
+     * @param interval the number of ticks between two integrations of the same entity
+     */
+    public void tick(ServerLevel level, int interval)
+    {
+        if (interval != this.interval)
+        {
+            resize(level, interval);
+        }
+
+        for (LivingEntity entity : buckets.get((int) (level.getGameTime() % interval)))
+        {
+            if (!entity.isAlive())
+            {
+                continue;
+            }
+
+            final int exposure = RadiationField.getExposure(level, entity.blockPosition());
+            final boolean isPlayer = entity instanceof Player;
+            if (exposure > 0 || isPlayer || entity.hasData(FalloutMcAttachments.SURVIVAL_STATS))
+            {
+                entity.getData(FalloutMcAttachments.SURVIVAL_STATS).integrate(exposure, interval, isPlayer);
+            }
+            if (isPlayer && entity.hasData(FalloutMcAttachments.ADDICTIONS)
+                    && entity.getData(FalloutMcAttachments.ADDICTIONS).isInAnyWithdrawal(level.getGameTime()))
+            {
+                entity.addEffect(new MobEffectInstance(MobEffects.WEAKNESS, 2 * interval, 0, true, true));
+            }
+        }
+    }
+
+    private void resize(ServerLevel level, int interval)
+    {
+        final List<Set<LivingEntity>> resized = new ArrayList<>(interval);
+        for (int i = 0; i < interval; i++)
+        {
+            resized.add(new ReferenceOpenHashSet<>());
+        }
+        if (this.interval == 0)
+        {
+            // First tick of the level, the entities loaded so far have not been added yet
+            for (var entity : level.getAllEntities())
+            {
+                if (entity instanceof LivingEntity living)
+                {
+                    resized.get(bucketOf(living, interval)).add(living);
+                }
+            }
+        }
+        else
+        {
+            for (Set<LivingEntity> bucket : buckets)
+            {
+                for (LivingEntity entity : bucket)
+                {
+                    resized.get(bucketOf(entity, interval)).add(entity);
+                }
+            }
+        }
+        this.buckets = resized;
+        this.interval = interval;
+    }
+
+    private static int bucketOf(LivingEntity entity, int interval)
+    {
+        return Math.floorMod(entity.getId(), interval);
+    }
+}
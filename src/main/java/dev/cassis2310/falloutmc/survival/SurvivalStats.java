@@ -0,0 +1,239 @@
+package dev.cassis2310.falloutmc.survival;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.util.Mth;
+import net.neoforged.neoforge.common.util.INBTSerializable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+/**
+ * The survival stats of a living entity: accumulated radiation, and for players, Fallout hunger, thirst and
+ * action points.
+ *
+ * <p>The stats are not updated every tick. The {@link SurvivalScheduler} integrates them over a whole
+ * interval at once, from a single query of the radiation field.</p>
+ *
+ * <p>Changes are not sent to the client as they happen. Every change marks its stat dirty, and
+ * {@link SurvivalSync} sends all the dirty stats of a player in one payload, at most once per tick after a
+ * critical change, such as consuming an item, and at most once per sync interval for gradual changes.</p>
+ */
+public class SurvivalStats implements INBTSerializable<CompoundTag>
+{
+    /** The highest amount of radiation an entity can accumulate, in rads. */
+    public static final float MAX_RADS = 1000;
+    /** The value of a full hunger or thirst bar. */
+    public static final float MAX_NEED = 100;
+    /** The action points of a rested player. */
+    public static final float MAX_ACTION_POINTS = 100;
+
+    /** The hunger lost every minute. */
+    public static final float HUNGER_DECAY_PER_MINUTE = 0.5F;
+    /** The thirst lost every minute. */
+    public static final float THIRST_DECAY_PER_MINUTE = 1.0F;
+    /** The action points regained every second. */
+    public static final float ACTION_POINTS_REGEN_PER_SECOND = 2.5F;
+
+    private static final float TICKS_PER_SECOND = 20;
+    private static final float TICKS_PER_MINUTE = 60 * TICKS_PER_SECOND;
+
+    /** The bit of {@link #getDirty()} set when the radiation changed. */
+    public static final int RADS = 1;
+    /** The bit of {@link #getDirty()} set when the hunger changed. */
+    public static final int HUNGER = 1 << 1;
+    /** The bit of {@link #getDirty()} set when the thirst changed. */
+    public static final int THIRST = 1 << 2;
+    /** The bit of {@link #getDirty()} set when the action points changed. */
+    public static final int ACTION_POINTS = 1 << 3;
+    /** Every stat. */
+    public static final int ALL = RADS | HUNGER | THIRST | ACTION_POINTS;
+
+    private float rads;
+    private float hunger = MAX_NEED;
+    private float thirst = MAX_NEED;
+    private float actionPoints = MAX_ACTION_POINTS;
+
+    // The stats changed since the last sync, and whether any change must reach the client on the next tick
+    private int dirty = ALL;
+    private boolean critical = true;
+    private long lastSync = Long.MIN_VALUE;
+
+    /**
+     * Integrates the stats over a number of ticks. The changes are gradual, so they are not critical.
+     *
+     * @param exposure  the radiation the entity was exposed to, in rads per second
+     * @param ticks     the number of ticks since the last integration
+     * @param hasNeeds  whether the entity gets hungry and thirsty, and regains action points
+     */
+    public void integrate(int exposure, int ticks, boolean hasNeeds)
+    {
+        if (exposure > 0)
+        {
+            rads = change(rads, exposure * ticks / TICKS_PER_SECOND, MAX_RADS, RADS);
+        }
+        if (hasNeeds)
+        {
+            hunger = change(hunger, -HUNGER_DECAY_PER_MINUTE * ticks / TICKS_PER_MINUTE, MAX_NEED, HUNGER);
+            thirst = change(thirst, -THIRST_DECAY_PER_MINUTE * ticks / TICKS_PER_MINUTE, MAX_NEED, THIRST);
+            actionPoints = change(actionPoints, ACTION_POINTS_REGEN_PER_SECOND * ticks / TICKS_PER_SECOND, MAX_ACTION_POINTS, ACTION_POINTS);
+        }
+    }
+
+    /**
+     * Adds radiation, or removes it if negative.
+     *
+     * @param amount the rads to add
+     */
+    public void addRads(float amount)
+    {
+        rads = changeCritical(rads, amount, MAX_RADS, RADS);
+    }
+
+    /**
+     * Restores hunger, or drains it if negative.
+     *
+     * @param amount the hunger to restore
+     */
+    public void restoreHunger(float amount)
+    {
+        hunger = changeCritical(hunger, amount, MAX_NEED, HUNGER);
+    }
+
+    /**
+     * Restores thirst, or drains it if negative.
+     *
+     * @param amount the thirst to restore
+     */
+    public void restoreThirst(float amount)
+    {
+        thirst = changeCritical(thirst, amount, MAX_NEED, THIRST);
+    }
+
+    /**
+     * Restores action points, or spends them if negative.
+     *
+     * @param amount the action points to restore
+     */
+    public void restoreActionPoints(float amount)
+    {
+        actionPoints = changeCritical(actionPoints, amount, MAX_ACTION_POINTS, ACTION_POINTS);
+    }
+
+    private float change(float value, float amount, float max, int bit)
+    {
+        final float changed = Mth.clamp(value + amount, 0, max);
+        if (changed != value)
+        {
+            dirty |= bit;
+        }
+        return changed;
+    }
+
+    private float changeCritical(float value, float amount, float max, int bit)
+    {
+        final float changed = change(value, amount, max, bit);
+        critical |= changed != value;
+        return changed;
+    }
+
+    /**
+     * Replaces the stats synced from the server.
+     *
+     * @param mask         the stats synced, a combination of {@link #RADS}, {@link #HUNGER}, {@link #THIRST}
+     *                     and {@link #ACTION_POINTS}
+     * @param rads         the radiation
+     * @param hunger       the hunger
+     * @param thirst       the thirst
+     * @param actionPoints the action points
+     */
+    public void set(int mask, float rads, float hunger, float thirst, float actionPoints)
+    {
+        this.rads = (mask & RADS) != 0 ? rads : this.rads;
+        this.hunger = (mask & HUNGER) != 0 ? hunger : this.hunger;
+        this.thirst = (mask & THIRST) != 0 ? thirst : this.thirst;
+        this.actionPoints = (mask & ACTION_POINTS) != 0 ? actionPoints : this.actionPoints;
+    }
+
+    /**
+     * @return the stats changed since the last sync
+     */
+    public int getDirty()
+    {
+        return dirty;
+    }
+
+    /**
+     * Marks every stat as changed, so the next sync sends all of them at once. Used when a player joins a
+     * level, since its client starts over from defaults.
+     */
+    public void markAllDirty()
+    {
+        dirty = ALL;
+        critical = true;
+    }
+
+    /**
+     * Returns whether the stats should be synced on this tick: as soon as possible after a critical change,
+     * and no more than once every {@code interval} ticks for gradual changes.
+     *
+     * @param gameTime the current game time
+     * @param interval the minimum ticks between two syncs of gradual changes
+     * @return whether a sync is due
+     */
+    public boolean isSyncDue(long gameTime, int interval)
+    {
+        return dirty != 0 && (critical || gameTime - lastSync >= interval);
+    }
+
+    /**
+     * Clears the changes, once they have been synced.
+     *
+     * @param gameTime the current game time
+     */
+    public void markSynced(long gameTime)
+    {
+        dirty = 0;
+        critical = false;
+        lastSync = gameTime;
+    }
+
+    public float getRads()
+    {
+        return rads;
+    }
+
+    public float getHunger()
+    {
+        return hunger;
+    }
+
+    public float getThirst()
+    {
+        return thirst;
+    }
+
+    public float getActionPoints()
+    {
+        return actionPoints;
+    }
+
+    @Override
+    public @UnknownNullability CompoundTag serializeNBT(HolderLookup.@NotNull Provider provider)
+    {
+        final CompoundTag tag = new CompoundTag();
+        tag.putFloat("rads", rads);
+        tag.putFloat("hunger", hunger);
+        tag.putFloat("thirst", thirst);
+        tag.putFloat("actionPoints", actionPoints);
+        return tag;
+    }
+
+    @Override
+    public void deserializeNBT(HolderLookup.@NotNull Provider provider, @NotNull CompoundTag tag)
+    {
+        rads = Mth.clamp(tag.getFloat("rads"), 0, MAX_RADS);
+        hunger = tag.contains("hunger") ? Mth.clamp(tag.getFloat("hunger"), 0, MAX_NEED) : MAX_NEED;
+        thirst = tag.contains("thirst") ? Mth.clamp(tag.getFloat("thirst"), 0, MAX_NEED) : MAX_NEED;
+        actionPoints = tag.contains("actionPoints") ? Mth.clamp(tag.getFloat("actionPoints"), 0, MAX_ACTION_POINTS) : MAX_ACTION_POINTS;
+    }
+}
@@ -0,0 +1,65 @@
+package dev.cassis2310.falloutmc.survival;
+
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import dev.cassis2310.falloutmc.items.CarryWeightLedger;
+import dev.cassis2310.falloutmc.network.SurvivalStatsPayload;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+/**
+ * Sends players the changes to their {@link SurvivalStats} and carried weight, coalesced into at most one
+ * payload per tick.
+ *
+ * <p>Stats are never sent as they change. Once per tick, after every other update, each player whose stats
+ * have a sync due gets a single payload holding only the stats that changed. Gradual changes, such as the
+ * radiation of a player standing in a rad zone, therefore cost one small payload per sync interval, however
+ * often they are integrated.</p>
+ */
+public class SurvivalSync
+{
+    private SurvivalSync()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Sends the due changes of the players of a level.
+     *
+     * @param level    the level
+     * @param interval the minimum ticks between two syncs of gradual changes
+     */
+    public static void flush(ServerLevel level, int interval)
+    {
+        final long gameTime = level.getGameTime();
+        for (ServerPlayer player : level.players())
+        {
+            final SurvivalStats stats = player.getData(FalloutMcAttachments.SURVIVAL_STATS);
+            final CarryWeightLedger ledger = player.getData(FalloutMcAttachments.CARRY_WEIGHT);
+            final boolean statsDue = stats.isSyncDue(gameTime, interval);
+            if (!statsDue && !ledger.isDirty())
+            {
+                continue;
+            }
+
+            final int mask = (statsDue ? stats.getDirty() : 0) | (ledger.isDirty() ? SurvivalStatsPayload.CARRY_WEIGHT : 0);
+            PacketDistributor.sendToPlayer(player, SurvivalStatsPayload.of(mask, stats, ledger));
+            if (statsDue)
+            {
+                stats.markSynced(gameTime);
+            }
+            ledger.setDirty(false);
+        }
+    }
+
+    /**
+     * Sends every stat of a player joining a level on the next flush, since their client starts over.
+     *
+     * @param player the player
+     */
+    public static void onPlayerJoined(ServerPlayer player)
+    {
+        player.getData(FalloutMcAttachments.SURVIVAL_STATS).markAllDirty();
+        player.getData(FalloutMcAttachments.CARRY_WEIGHT).setDirty(true);
+    }
+}
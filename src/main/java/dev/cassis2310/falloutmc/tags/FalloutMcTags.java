@@ -0,0 +1,61 @@
+package dev.cassis2310.falloutmc.tags;
+
+import net.minecraft.core.registries.Registries;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.effect.MobEffect;
+import net.minecraft.world.item.Item;
+
+import static dev.cassis2310.falloutmc.utils.helpers.ResourceHelpers.falloutMcResource;
+
+/**
+ * The tags defined by the Fallout Minecraft mod, grouped by registry.
+ */
+public class FalloutMcTags
+{
+    private FalloutMcTags()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Item tags.
+     */
+    public static class Items
+    {
+        /** The items a footlocker may hold when looted. */
+        public static final TagKey<Item> FOOTLOCKER_LOOT = create("loot/footlocker");
+        /** The items a toolbox may hold when looted. */
+        public static final TagKey<Item> TOOLBOX_LOOT = create("loot/toolbox");
+        /** The items a fridge may hold when looted. */
+        public static final TagKey<Item> FRIDGE_LOOT = create("loot/fridge");
+
+        private Items()
+        {
+            throw new UnsupportedOperationException("Utility class cannot be instantiated");
+        }
+
+        private static TagKey<Item> create(String name)
+        {
+            return TagKey.create(Registries.ITEM, falloutMcResource(name));
+        }
+    }
+
+    /**
+     * Mob effect tags.
+     */
+    public static class MobEffects
+    {
+        /** The diseases more likely to be caught by an irradiated consumer, see {@code DiseaseTables}. */
+        public static final TagKey<MobEffect> RADIATION_DISEASES = create("radiation_diseases");
+
+        private MobEffects()
+        {
+            throw new UnsupportedOperationException("Utility class cannot be instantiated");
+        }
+
+        private static TagKey<MobEffect> create(String name)
+        {
+            return TagKey.create(Registries.MOB_EFFECT, falloutMcResource(name));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package dev.cassis2310.falloutmc.utils;
+
+import net.minecraft.util.RandomSource;
+
+/**
+ * Samples an index from a fixed discrete distribution in constant time, using Vose's alias method.
+ *
+ * <p>Building the table takes linear time. Every column of the table holds its own index with some
+ * probability and an alias index otherwise, so a sample is one uniform column pick plus one biased coin
+ * flip, whatever the number of outcomes or the shape of the weights.</p>
+ */
+public class AliasTable
+{
+    private final float[] probabilities;
+    private final int[] aliases;
+
+    /**
+     * Builds a table from weights.
+     *
+     * @param weights the weight of each index, not negative, with a positive sum
+     * @throws IllegalArgumentException if no weight is positive
+     */
+    public AliasTable(double[] weights)
+    {
+        final int n = weights.length;
+        double sum = 0;
+        for (double weight : weights)
+        {
+            if (weight < 0 || Double.isNaN(weight))
+            {
+                throw new IllegalArgumentException("Weights must not be negative: " + weight);
+            }
+            sum += weight;
+        }
+        if (n == 0 || sum <= 0)
+        {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        probabilities = new float[n];
+        aliases = new int[n];
+
+        // Scaled so that the average column is exactly 1
+        final double[] scaled = new double[n];
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int smallSize = 0, largeSize = 0;
+        for (int i = 0; i < n; i++)
+        {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1)
+            {
+                small[smallSize++] = i;
+            }
+            else
+            {
+                large[largeSize++] = i;
+            }
+        }
+
+        while (smallSize > 0 && largeSize > 0)
+        {
+            final int less = small[--smallSize];
+            final int more = large[--largeSize];
+            probabilities[less] = (float) scaled[less];
+            aliases[less] = more;
+
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1)
+            {
+                small[smallSize++] = more;
+            }
+            else
+            {
+                large[largeSize++] = more;
+            }
+        }
+
+        // Whatever remains is 1 up to rounding errors
+        while (largeSize > 0)
+        {
+            probabilities[large[--largeSize]] = 1;
+        }
+        while (smallSize > 0)
+        {
+            probabilities[small[--smallSize]] = 1;
+        }
+    }
+
+    /**
+     * Samples an index.
+     *
+     * @param random the random source
+     * @return an index, picked with a probability proportional to its weight
+     */
+    public int sample(RandomSource random)
+    {
+        final int column = random.nextInt(probabilities.length);
+        return random.nextFloat() < probabilities[column] ? column : aliases[column];
+    }
+
+    /**
+     * @return the number of indices
+     */
+    public int size()
+    {
+        return probabilities.length;
+    }
+}
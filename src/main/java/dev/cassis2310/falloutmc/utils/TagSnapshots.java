@@ -0,0 +1,132 @@
+package dev.cassis2310.falloutmc.utils;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.tags.TagKey;
+import net.minecraft.util.RandomSource;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Caches the contents of tags as flat arrays, for code picking random tag entries at a high rate.
+ *
+ * <p>A tag is flattened the first time it is requested, and every pick after that is an array access,
+ * instead of a tag lookup through the registry. Weighted picks additionally compile an {@link AliasTable}
+ * per tag and weight function.</p>
+ *
+ * <p>When tags reload, the whole cache is replaced at once by {@link #invalidate()}, so a reader sees either
+ * only snapshots of the old tags, or only snapshots of the new ones.</p>
+ */
+public class TagSnapshots
+{
+    private static volatile Map<Key, Snapshot<?>> snapshots = new ConcurrentHashMap<>();
+
+    private TagSnapshots()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Returns the snapshot of a tag, flattening it if needed.
+     *
+     * @param registry the registry of the tag
+     * @param tag      the tag
+     * @param <T>      the type of the tag entries
+     * @return the snapshot, empty if the tag does not exist
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Snapshot<T> get(Registry<T> registry, TagKey<T> tag)
+    {
+        return (Snapshot<T>) snapshots.computeIfAbsent(new Key(registry, tag, null), key -> new Snapshot<>(flatten(registry, tag), null));
+    }
+
+    /**
+     * Returns the weighted snapshot of a tag, flattening it and compiling its weights if needed.
+     * <p>
+     * Snapshots are cached per weight function, so callers should pass the same function instance, such as
+     * a constant, every time.
+     *
+     * @param registry the registry of the tag
+     * @param tag      the tag
+     * @param weights  the weight of each entry, not negative
+     * @param <T>      the type of the tag entries
+     * @return the snapshot, empty if the tag does not exist or no entry has a positive weight
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Snapshot<T> getWeighted(Registry<T> registry, TagKey<T> tag, ToDoubleFunction<T> weights)
+    {
+        return (Snapshot<T>) snapshots.computeIfAbsent(new Key(registry, tag, weights), key -> {
+            final Object[] values = flatten(registry, tag);
+            final double[] table = new double[values.length];
+            double total = 0;
+            for (int i = 0; i < values.length; i++)
+            {
+                table[i] = weights.applyAsDouble((T) values[i]);
+                total += table[i];
+            }
+            return total > 0 ? new Snapshot<>(values, new AliasTable(table)) : new Snapshot<>(new Object[0], null);
+        });
+    }
+
+    /**
+     * Discards every snapshot. Called when tags reload.
+     */
+    public static void invalidate()
+    {
+        snapshots = new ConcurrentHashMap<>();
+    }
+
+    private static <T> Object[] flatten(Registry<T> registry, TagKey<T> tag)
+    {
+        return registry.getTag(tag)
+                .map(set -> set.stream().map(Holder::value).toArray())
+                .orElseGet(() -> new Object[0]);
+    }
+
+    /**
+     * The flattened entries of a tag.
+     *
+     * @param <T> the type of the tag entries
+     */
+    public static class Snapshot<T>
+    {
+        private final Object[] values;
+        private final @Nullable AliasTable weights;
+
+        private Snapshot(Object[] values, @Nullable AliasTable weights)
+        {
+            this.values = values;
+            this.weights = weights;
+        }
+
+        /**
+         * Picks a random entry, uniformly or by weight depending on how the snapshot was requested.
+         *
+         * @param random the random source
+         * @return the entry, or {@code null} if the snapshot is empty
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        public T pick(RandomSource random)
+        {
+            if (values.length == 0)
+            {
+                return null;
+            }
+            return (T) values[weights != null ? weights.sample(random) : random.nextInt(values.length)];
+        }
+
+        /**
+         * @return the number of entries
+         */
+        public int size()
+        {
+            return values.length;
+        }
+    }
+
+    private record Key(Registry<?> registry, TagKey<?> tag, @Nullable Object weights) {}
+}
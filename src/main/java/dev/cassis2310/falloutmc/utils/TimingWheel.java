@@ -0,0 +1,149 @@
+package dev.cassis2310.falloutmc.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel, scheduling values to fire at a game tick.
+ *
+ * <p>The wheel has four levels of 64 slots. The first level holds the values due within the next 64 ticks,
+ * one slot per tick, and every level above holds 64 times longer spans per slot. A value is placed in the
+ * lowest level its deadline fits in, and moves down a level each time the slots of the level below wrap
+ * around, until it reaches the first level and fires. Values due in more than 64<sup>4</sup> ticks, about
+ * ten days, wait in an overflow list until the top level wraps.</p>
+ *
+ * <p>Scheduling is constant time, and advancing by a tick only touches the one slot due that tick, plus a
+ * slot of a higher level every 64 ticks, however many values are scheduled. Values cannot be cancelled;
+ * callers check on firing whether the value still applies.</p>
+ *
+ * @param <T> the type of the scheduled values
+ */
+public class TimingWheel<T>
+{
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final List<List<Entry<T>>> slots = new ArrayList<>(LEVELS * SLOTS);
+    private final List<Entry<T>> overflow = new ArrayList<>();
+    private long now;
+    private int size;
+
+    public TimingWheel()
+    {
+        for (int i = 0; i < LEVELS * SLOTS; i++)
+        {
+            slots.add(new ArrayList<>(0));
+        }
+    }
+
+    /**
+     * Schedules a value. A value due before the next tick fires on the next call to {@link #advance}.
+     *
+     * @param tick     the current tick
+     * @param deadline the tick the value is due at
+     * @param value    the value
+     */
+    public void schedule(long tick, long deadline, T value)
+    {
+        if (size == 0)
+        {
+            // An empty wheel may lag behind, as advancing it skips no work; catch up to the tick being run
+            now = Math.max(now, tick - 1);
+        }
+        place(new Entry<>(Math.max(deadline, now + 1), value));
+        size++;
+    }
+
+    /**
+     * Advances the wheel to a tick, firing every value due until then in order.
+     *
+     * @param tick   the tick to advance to
+     * @param action the action to run for each value due
+     */
+    public void advance(long tick, Consumer<T> action)
+    {
+        if (size == 0)
+        {
+            // Nothing to fire, so skip straight to the tick
+            now = Math.max(now, tick);
+            return;
+        }
+
+        while (now < tick && size > 0)
+        {
+            now++;
+            if ((now & SLOT_MASK) == 0)
+            {
+                cascade();
+            }
+
+            final List<Entry<T>> due = slots.get((int) (now & SLOT_MASK));
+            if (!due.isEmpty())
+            {
+                final List<Entry<T>> fired = new ArrayList<>(due);
+                due.clear();
+                size -= fired.size();
+                for (Entry<T> entry : fired)
+                {
+                    action.accept(entry.value());
+                }
+            }
+        }
+        now = Math.max(now, tick);
+    }
+
+    /**
+     * @return the number of values scheduled
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    // Moves the values of the higher level slots that just came due down a level
+    private void cascade()
+    {
+        for (int level = 1; level < LEVELS; level++)
+        {
+            final int index = (int) ((now >> (level * SLOT_BITS)) & SLOT_MASK);
+            final List<Entry<T>> slot = slots.get(level * SLOTS + index);
+            if (!slot.isEmpty())
+            {
+                final List<Entry<T>> moved = new ArrayList<>(slot);
+                slot.clear();
+                moved.forEach(this::place);
+            }
+            if (index != 0)
+            {
+                return;
+            }
+        }
+
+        if (!overflow.isEmpty())
+        {
+            final List<Entry<T>> moved = new ArrayList<>(overflow);
+            overflow.clear();
+            moved.forEach(this::place);
+        }
+    }
+
+    private void place(Entry<T> entry)
+    {
+        final long delta = Math.max(entry.deadline() - now, 0);
+        for (int level = 0; level < LEVELS; level++)
+        {
+            if (delta < 1L << ((level + 1) * SLOT_BITS))
+            {
+                final int index = (int) ((entry.deadline() >> (level * SLOT_BITS)) & SLOT_MASK);
+                slots.get(level * SLOTS + index).add(entry);
+                return;
+            }
+        }
+        overflow.add(entry);
+    }
+
+    private record Entry<T>(long deadline, T value) {}
+}
@@ -1,20 +1,57 @@
 package dev.cassis2310.falloutmc.utils;
 
 import com.google.common.base.Stopwatch;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.mojang.logging.LogUtils;
 import dev.cassis2310.falloutmc.blocks.FalloutMcBlocks;
+import dev.cassis2310.falloutmc.datagen.codecs.effects.EffectWithDuration;
+import dev.cassis2310.falloutmc.datagen.codecs.items.ItemAttributes;
+import dev.cassis2310.falloutmc.datagen.codecs.items.consumables.*;
+import dev.cassis2310.falloutmc.datagen.datamaps.FalloutMcDataMaps;
+import dev.cassis2310.falloutmc.effects.FalloutMcEffects;
+import dev.cassis2310.falloutmc.items.FalloutMcItems;
+import dev.cassis2310.falloutmc.items.ItemProfileCache;
+import dev.cassis2310.falloutmc.items.ItemWeightRegistry;
+import dev.cassis2310.falloutmc.network.AttributeSnapshot;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.block.BlockModelShaper;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.locale.Language;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.Bootstrap;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.world.effect.MobEffect;
 import net.minecraft.world.item.Item;
-import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
 import net.minecraft.world.level.block.state.BlockState;
 import net.neoforged.bus.api.Event;
 import net.neoforged.neoforge.common.NeoForge;
 import org.slf4j.Logger;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
 
+import static dev.cassis2310.falloutmc.FalloutMc.MOD_ID;
 import static dev.cassis2310.falloutmc.FalloutMc.MOD_NAME;
 
 /**
@@ -28,6 +65,9 @@ import static dev.cassis2310.falloutmc.FalloutMc.MOD_NAME;
  * when a validation fails.
  * If the mod is running in a development environment, the mod will print out the failures to the console, but will
  * not throw an exception.
+ * <p>
+ * The server and data pack validations run in the background at server start and after every reload, and write
+ * their findings to a JSON report in the server's {@code logs} directory.
  */
 public class ValidationSuite
 {
@@ -35,7 +75,9 @@ public class ValidationSuite
     public static final boolean THROW_ON_FAILURE = false;
 
     private static final Logger LOGGER = LogUtils.getLogger();
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
     private static boolean EXTERNAL_ERRORS = false;
+    private static int lastClientResourcesHash;
 
 
     public static boolean isExternalErrors()
@@ -52,27 +94,101 @@ public class ValidationSuite
      * Represents a suite of validation tests to be run on the client-side.
      * These tests are used to ensure the correctness of the mod's assets and
      * translations.
+     * <p>
+     * The checks run in parallel on the background executor, so the resource reload is not held up. The
+     * outcome is remembered along with a hash of the selected resource packs and language, and of the
+     * contents of the block states, models and language files the checks read. A reload that changes none
+     * of them skips the checks entirely, while editing a file of a pack that stays selected runs them again.
      */
     public static void performClientValidations()
     {
         if (ENABLED) {
             NeoForge.EVENT_BUS.post(new ClientValidationEvent());
-            LOGGER.info("[{}]: Executing client-side validations...", MOD_NAME);
-            final Stopwatch tick = Stopwatch.createStarted();
-            throwIfAny(validateModels(), validateTranslations());
-            LOGGER.info("[{}]Client self tests passed in {}", MOD_NAME, tick.stop());
+
+            // Hashing reads every file the checks depend on, so it runs in the background as well
+            final Minecraft minecraft = Minecraft.getInstance();
+            CompletableFuture.supplyAsync(() -> clientResourcesHash(minecraft), Util.backgroundExecutor())
+                    .thenAcceptAsync(resourcesHash -> runClientValidations(minecraft, resourcesHash), minecraft)
+                    .exceptionally(e -> {
+                        LOGGER.error("[{}]: Client-side validations could not start", MOD_NAME, e);
+                        return null;
+                    });
         }
     }
 
+    private static void runClientValidations(Minecraft minecraft, int resourcesHash)
+    {
+        if (resourcesHash != 0 && resourcesHash == lastClientResourcesHash) {
+            LOGGER.info("[{}]: Resource packs unchanged, skipping client-side validations", MOD_NAME);
+            return;
+        }
+        lastClientResourcesHash = resourcesHash;
+
+        LOGGER.info("[{}]: Executing client-side validations...", MOD_NAME);
+        final Stopwatch tick = Stopwatch.createStarted();
+        final List<CompletableFuture<CheckResult>> checks = List.of(
+                runCheck("models", ValidationSuite::validateModels),
+                runCheck("translations", ValidationSuite::validateTranslations)
+        );
+
+        // Report on the render thread, where a failure may be thrown without being swallowed by the future
+        CompletableFuture.allOf(checks.toArray(CompletableFuture[]::new)).thenRun(() -> minecraft.execute(() -> {
+            boolean errors = false;
+            for (CompletableFuture<CheckResult> check : checks) {
+                final CheckResult result = check.join();
+                LOGGER.info("[{}]:   {} check {} in {} ms", MOD_NAME, result.name(), result.errors() ? "failed" : "passed", result.nanos() / 1_000_000.0);
+                errors |= result.errors();
+            }
+            if (errors) {
+                // Validate again on the next reload, even if nothing changed
+                lastClientResourcesHash = 0;
+            }
+            throwIfAny(errors);
+            LOGGER.info("[{}]Client self tests {} in {}", MOD_NAME, errors ? "failed" : "passed", tick.stop());
+        })).exceptionally(e -> {
+            LOGGER.error("[{}]: Client-side validations could not complete", MOD_NAME, e);
+            lastClientResourcesHash = 0;
+            return null;
+        });
+    }
 
-    public static void performServerValidations()
+    /**
+     * Runs the server-side validations in the background, once the weights of items have been resolved.
+     * <p>
+     * This checks that every item has a weight, either explicitly or inferred from its recipes.
+     *
+     * @param server the server
+     */
+    public static void performServerValidations(MinecraftServer server)
     {
-        // TODO: Add server validations
+        if (ENABLED) {
+            final int size = BuiltInRegistries.ITEM.size();
+            runPass(server, "server", List.of(
+                    new ServerCheck("weight_coverage", () -> validateWeightCoverage(size))
+            ));
+        }
     }
 
-    public static void performDataPackValidations()
+    /**
+     * Runs the data pack validations in the background, at server start and after every reload.
+     * <p>
+     * The data maps are copied on the calling thread, which must be the server thread, and checked
+     * for out of range decease chances and conflicting entries. Invalid effect references are searched for
+     * in the data map files themselves, since the entries holding them are dropped when the data maps load.
+     *
+     * @param server the server
+     */
+    public static void performDataPackValidations(MinecraftServer server)
     {
-        // TODO: Add data pack validations
+        if (ENABLED) {
+            final AttributeSnapshot snapshot = AttributeSnapshot.of(BuiltInRegistries.ITEM);
+            final ResourceManager resources = server.getResourceManager();
+            runPass(server, "datapack", List.of(
+                    new ServerCheck("effect_references", () -> validateEffectReferences(resources)),
+                    new ServerCheck("decease_chances", () -> validateDeceaseChances(snapshot)),
+                    new ServerCheck("conflicting_entries", () -> validateConflictingEntries(snapshot))
+            ));
+        }
     }
 
     /*
@@ -81,6 +197,47 @@ public class ValidationSuite
      * ====================
      */
 
+    /**
+     * Hashes the selected resource packs and language, and the contents of every block state and model of
+     * the mod and of every file of the selected and default languages, in every pack.
+     *
+     * @param minecraft the client
+     * @return the hash, or 0 if a file could not be read, which never matches
+     */
+    private static int clientResourcesHash(Minecraft minecraft)
+    {
+        final ResourceManager resources = minecraft.getResourceManager();
+        final String language = minecraft.getLanguageManager().getSelected();
+        final Set<String> languageFiles = Set.of("lang/" + language + ".json", "lang/" + Language.DEFAULT + ".json");
+        int hash = Objects.hash(minecraft.getResourcePackRepository().getSelectedIds(), language);
+        try {
+            hash += contentsHash(resources.listResourceStacks("blockstates", id -> id.getNamespace().equals(MOD_ID)));
+            hash += contentsHash(resources.listResourceStacks("models", id -> id.getNamespace().equals(MOD_ID)));
+            hash += contentsHash(resources.listResourceStacks("lang", id -> languageFiles.contains(id.getPath())));
+        } catch (IOException e) {
+            LOGGER.warn("[{}]: Could not hash the client resources, validating them anyway", MOD_NAME, e);
+            return 0;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    // Sums the hashes of the files, so the order they are listed in does not matter
+    private static int contentsHash(Map<ResourceLocation, List<Resource>> files) throws IOException
+    {
+        final CRC32 crc = new CRC32();
+        int hash = 0;
+        for (Map.Entry<ResourceLocation, List<Resource>> entry : files.entrySet()) {
+            for (Resource resource : entry.getValue()) {
+                crc.reset();
+                try (InputStream in = resource.open()) {
+                    crc.update(in.readAllBytes());
+                }
+                hash += 31 * (31 * entry.getKey().hashCode() + resource.sourcePackId().hashCode()) + (int) crc.getValue();
+            }
+        }
+        return hash;
+    }
+
     /**
      * Validates the presence of block and item models.
      * <p>
@@ -100,7 +257,7 @@ public class ValidationSuite
 
         List<BlockState> missingModelErrors =
                 FalloutMcBlocks.BLOCKS.getEntries()
-                        .stream()
+                        .parallelStream()
                         .flatMap(block -> block.value().getStateDefinition().getPossibleStates().stream())
                         .filter(state -> shaper.getBlockModel(state) == missingModel)
                         .toList();
@@ -110,20 +267,244 @@ public class ValidationSuite
 
     /**
      * Validates translation keys.
-     * Detects missing translation keys for items and blocks, ensuring that all necessary translations are provided.
+     * Detects missing translation keys for the mod's items, blocks and effects in the selected language,
+     * as well as any translation keys reported missing by the game itself.
      * Log any missing translation keys found during the validation process.
      *
      * @return true if there are errors (missing translation keys), false otherwise.
      */
     private static boolean validateTranslations()
     {
-        final Set<String> missingTranslations = Bootstrap.getMissingTranslations();
-        final List<ItemStack> stacks = new ArrayList<>();
-        final Set<Item> items = new HashSet<>();
+        final Language language = Language.getInstance();
+        final Set<String> missingTranslations = new TreeSet<>(Bootstrap.getMissingTranslations());
+
+        FalloutMcItems.ITEMS.getEntries().forEach(item -> addIfMissing(language, item.value().getDescriptionId(), missingTranslations));
+        FalloutMcBlocks.BLOCKS.getEntries().forEach(block -> addIfMissing(language, block.value().getDescriptionId(), missingTranslations));
+        FalloutMcEffects.MOB_EFFECTS.getEntries().forEach(effect -> addIfMissing(language, effect.value().getDescriptionId(), missingTranslations));
+
+        return logErrors("{} missing translation keys:", missingTranslations, LOGGER);
+    }
+
+    private static void addIfMissing(Language language, String key, Set<String> missingTranslations)
+    {
+        if (!language.has(key)) {
+            missingTranslations.add(key);
+        }
+    }
+
+    /*
+     * ====================
+     *  Server Validations
+     * ====================
+     */
+
+    /**
+     * Finds items that have no weight from any source.
+     *
+     * @param size the size of the item registry
+     * @return the items without a weight
+     */
+    private static List<String> validateWeightCoverage(int size)
+    {
+        final List<String> errors = new ArrayList<>();
+        for (int id = 0; id < size; id++) {
+            final Item item = BuiltInRegistries.ITEM.byId(id);
+            if (item != Items.AIR && Double.isNaN(ItemWeightRegistry.explicitWeight(id, item)) && ItemProfileCache.byId(id) == null) {
+                errors.add(BuiltInRegistries.ITEM.getKey(item) + " has no weight");
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Finds effect lists that reference unknown effects, in the data map files of every pack.
+     * <p>
+     * An entry referencing an unknown effect fails to decode, and is dropped with only a log line when the data
+     * maps load, so it never reaches the decoded data maps. The files are read again instead, and every effect id
+     * in their {@code effects} and {@code deceaseEffects} lists is looked up in the registry.
+     *
+     * @param resourceManager the server's resources
+     * @return the invalid references
+     */
+    private static List<String> validateEffectReferences(ResourceManager resourceManager)
+    {
+        final List<String> errors = new ArrayList<>();
+        for (AttributeSnapshot.Channel<?> channel : AttributeSnapshot.CHANNELS) {
+            final ResourceLocation type = channel.type().id();
+            final ResourceLocation file = ResourceLocation.fromNamespaceAndPath(type.getNamespace(), "data_maps/item/" + type.getPath() + ".json");
+            for (Resource resource : resourceManager.getResourceStack(file)) {
+                try (Reader reader = resource.openAsReader()) {
+                    if (JsonParser.parseReader(reader) instanceof JsonObject root && root.get("values") instanceof JsonObject values) {
+                        for (Map.Entry<String, JsonElement> entry : values.entrySet()) {
+                            findUnknownEffects(entry.getValue(), type + " entry of " + entry.getKey() + " in " + resource.sourcePackId(), errors);
+                        }
+                    }
+                } catch (IOException | JsonParseException e) {
+                    errors.add(file + " in " + resource.sourcePackId() + " could not be read: " + e.getMessage());
+                }
+            }
+        }
+        return errors;
+    }
+
+    private static void findUnknownEffects(JsonElement entry, String source, List<String> errors)
+    {
+        // An entry is either the attributes, or an object holding them under "value" next to a replace flag
+        final JsonElement attributes = entry instanceof JsonObject wrapper && wrapper.get("value") instanceof JsonObject value ? value : entry;
+        if (!(attributes instanceof JsonObject object)) {
+            return;
+        }
+
+        if (object.get("effects") instanceof JsonArray effects) {
+            for (JsonElement effect : effects) {
+                final JsonElement id = effect instanceof JsonObject effectObject ? effectObject.get("effect") : null;
+                if (!isKnownEffect(id)) {
+                    errors.add(source + " references an unknown effect " + id);
+                }
+            }
+        }
+        if (object.get("deceaseEffects") instanceof JsonArray deceaseEffects) {
+            for (JsonElement id : deceaseEffects) {
+                if (!isKnownEffect(id)) {
+                    errors.add(source + " references an unknown decease effect " + id);
+                }
+            }
+        }
+    }
+
+    private static boolean isKnownEffect(JsonElement id)
+    {
+        final ResourceLocation location = id != null && id.isJsonPrimitive() ? ResourceLocation.tryParse(id.getAsString()) : null;
+        return location != null && BuiltInRegistries.MOB_EFFECT.containsKey(location);
+    }
+
+    /**
+     * Finds decease chances outside of 0 to 100 percent.
+     *
+     * @param snapshot the data maps
+     * @return the out of range chances
+     */
+    private static List<String> validateDeceaseChances(AttributeSnapshot snapshot)
+    {
+        final List<String> errors = new ArrayList<>();
+        forEachEntry(snapshot, (channel, id, view) -> {
+            if (view.deceaseChance() < 0 || view.deceaseChance() > 100) {
+                errors.add(describe(channel, id) + " has a decease chance of " + view.deceaseChance() + ", expected 0 to 100");
+            }
+        });
+        return errors;
+    }
 
-        boolean errors = false;
+    /**
+     * Finds items whose entries in several data maps disagree on their weight or value, or that appear in
+     * more than one consumable data map. Such entries are merged silently by the
+     * {@link ItemProfileCache}, with the later data map winning.
+     *
+     * @param snapshot the data maps
+     * @return the conflicting entries
+     */
+    private static List<String> validateConflictingEntries(AttributeSnapshot snapshot)
+    {
+        final List<String> errors = new ArrayList<>();
+        final Int2ObjectMap<AttributeView> firstViews = new Int2ObjectOpenHashMap<>();
+        final Int2ObjectMap<AttributeSnapshot.Channel<?>> firstChannels = new Int2ObjectOpenHashMap<>();
+        final Int2ObjectMap<AttributeSnapshot.Channel<?>> consumableChannels = new Int2ObjectOpenHashMap<>();
+        forEachEntry(snapshot, (channel, id, view) -> {
+            final AttributeView first = firstViews.putIfAbsent(id, view);
+            if (first == null) {
+                firstChannels.put(id, channel);
+            } else if (first.weight() != view.weight() || first.value() != view.value()) {
+                errors.add(describe(channel, id) + " has weight " + view.weight() + " and value " + view.value() + ", but "
+                        + describe(firstChannels.get(id), id) + " has weight " + first.weight() + " and value " + first.value());
+            }
 
-        return errors | logErrors("{} missing translation keys:", missingTranslations, LOGGER);
+            if (channel.type() != FalloutMcDataMaps.ITEM_ATTRIBUTES) {
+                final AttributeSnapshot.Channel<?> other = consumableChannels.putIfAbsent(id, channel);
+                if (other != null) {
+                    errors.add(describe(channel, id) + " overrides the consumable attributes of " + describe(other, id));
+                }
+            }
+        });
+        return errors;
+    }
+
+    /**
+     * Calls the action with every entry of every data map, in data map order.
+     */
+    private static void forEachEntry(AttributeSnapshot snapshot, EntryConsumer action)
+    {
+        for (AttributeSnapshot.Channel<?> channel : AttributeSnapshot.CHANNELS) {
+            for (Int2ObjectMap.Entry<?> entry : snapshot.get(channel.type()).int2ObjectEntrySet()) {
+                action.accept(channel, entry.getIntKey(), AttributeView.of(entry.getValue()));
+            }
+        }
+    }
+
+    private static String describe(AttributeSnapshot.Channel<?> channel, int id)
+    {
+        return channel.type().id() + " entry of " + BuiltInRegistries.ITEM.getKey(BuiltInRegistries.ITEM.byId(id));
+    }
+
+    /**
+     * Runs the checks of a server-side pass in parallel on the background executor, then writes the report
+     * and applies {@link #THROW_ON_FAILURE} on the server thread.
+     *
+     * @param server the server
+     * @param pass   the name of the pass, used for the log and the report file
+     * @param checks the checks to run
+     */
+    private static void runPass(MinecraftServer server, String pass, List<ServerCheck> checks)
+    {
+        LOGGER.info("[{}]: Executing {} validations...", MOD_NAME, pass);
+        final List<CompletableFuture<ServerCheckResult>> results = checks.stream()
+                .map(check -> CompletableFuture.supplyAsync(() -> {
+                    final long start = System.nanoTime();
+                    final List<String> errors = check.run().get();
+                    return new ServerCheckResult(check.name(), errors, System.nanoTime() - start);
+                }, Util.backgroundExecutor()))
+                .toList();
+
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).thenRunAsync(() -> {
+            final JsonArray reportChecks = new JsonArray();
+            boolean errors = false;
+            for (CompletableFuture<ServerCheckResult> future : results) {
+                final ServerCheckResult result = future.join();
+                LOGGER.info("[{}]:   {} check found {} problems in {} ms", MOD_NAME, result.name(), result.errors().size(), result.nanos() / 1_000_000.0);
+                errors |= !result.errors().isEmpty();
+
+                final JsonObject reportCheck = new JsonObject();
+                reportCheck.addProperty("name", result.name());
+                reportCheck.addProperty("millis", result.nanos() / 1_000_000.0);
+                final JsonArray reportErrors = new JsonArray();
+                result.errors().forEach(reportErrors::add);
+                reportCheck.add("errors", reportErrors);
+                reportChecks.add(reportCheck);
+            }
+
+            final JsonObject report = new JsonObject();
+            report.addProperty("pass", pass);
+            report.addProperty("time", Instant.now().toString());
+            report.addProperty("passed", !errors);
+            report.add("checks", reportChecks);
+
+            final Path path = server.getServerDirectory().resolve("logs").resolve(MOD_ID + "-" + pass + "-validation.json");
+            try {
+                Files.createDirectories(path.getParent());
+                Files.writeString(path, GSON.toJson(report));
+            } catch (IOException e) {
+                LOGGER.error("[{}]: Failed to write the {} validation report to {}", MOD_NAME, pass, path, e);
+            }
+
+            if (errors) {
+                LOGGER.error("[{}]: {} validations failed, see {}", MOD_NAME, pass, path);
+                server.execute(() -> throwIfAny(true));
+            } else {
+                LOGGER.info("[{}]: {} validations passed", MOD_NAME, pass);
+            }
+        }, Util.backgroundExecutor()).exceptionally(e -> {
+            LOGGER.error("[{}]: {} validations could not complete", MOD_NAME, pass, e);
+            return null;
+        });
     }
 
     /*
@@ -147,6 +528,22 @@ public class ValidationSuite
         }
     }
 
+    /**
+     * Runs a single check on the background executor, timing it.
+     *
+     * @param name  the name of the check, for the log
+     * @param check the check, returning true if it found errors
+     * @return the future result of the check
+     */
+    private static CompletableFuture<CheckResult> runCheck(String name, BooleanSupplier check)
+    {
+        return CompletableFuture.supplyAsync(() -> {
+            final long start = System.nanoTime();
+            final boolean errors = check.getAsBoolean();
+            return new CheckResult(name, errors, System.nanoTime() - start);
+        }, Util.backgroundExecutor());
+    }
+
     /**
      * Logs the errors if the collection is not empty.
      *
@@ -165,6 +562,57 @@ public class ValidationSuite
         return false;
     }
 
+    /**
+     * The outcome of a single check.
+     *
+     * @param name   the name of the check
+     * @param errors whether the check found errors
+     * @param nanos  how long the check took
+     */
+    private record CheckResult(String name, boolean errors, long nanos) {}
+
+    /**
+     * A named server-side check.
+     *
+     * @param name the name of the check
+     * @param run  the check, returning a description of every problem it found
+     */
+    private record ServerCheck(String name, Supplier<List<String>> run) {}
+
+    /**
+     * The outcome of a single server-side check.
+     *
+     * @param name   the name of the check
+     * @param errors a description of every problem found
+     * @param nanos  how long the check took
+     */
+    private record ServerCheckResult(String name, List<String> errors, long nanos) {}
+
+    /**
+     * The attributes shared by the entries of the six data maps.
+     */
+    private record AttributeView(double weight, int value, List<EffectWithDuration> effects, List<MobEffect> deceaseEffects, int deceaseChance)
+    {
+        static AttributeView of(Object data)
+        {
+            return switch (data) {
+                case ItemAttributes item -> new AttributeView(item.weight(), item.value(), List.of(), List.of(), 0);
+                case FoodAttributes food -> new AttributeView(food.weight(), food.value(), food.effects(), food.deceaseEffects(), food.deceaseChance());
+                case SoupAttributes soup -> new AttributeView(soup.weight(), soup.value(), soup.effects(), soup.deceaseEffects(), soup.deceaseChance());
+                case DrinkAttributes drink -> new AttributeView(drink.weight(), drink.value(), drink.effects(), drink.deceaseEffects(), drink.deceaseChance());
+                case ChemAttributes chem -> new AttributeView(chem.weight(), chem.value(), chem.effects(), List.of(), 0);
+                case MiscellaneousAttributes misc -> new AttributeView(misc.weight(), misc.value(), misc.effects(), List.of(), 0);
+                default -> throw new IllegalArgumentException("Unknown attributes " + data);
+            };
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryConsumer
+    {
+        void accept(AttributeSnapshot.Channel<?> channel, int id, AttributeView view);
+    }
+
     /**
      * An event fired when the client-side validations should be executed.
      */
@@ -0,0 +1,114 @@
+package dev.cassis2310.falloutmc.utils.helpers;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.world.effect.MobEffect;
+
+import java.util.List;
+
+/**
+ * Helpers for encoding values on the network: stream codecs for registry entries, and the zigzag var int,
+ * quantized weight and packed flag encodings used by the mod's payloads.
+ */
+public class CodecHelpers
+{
+    /**
+     * The number of steps per unit that weights are quantized to on the network (a hundredth of a pound).
+     */
+    public static final double WEIGHT_SCALE = 100.0;
+
+    /**
+     * A stream codec that references a {@link MobEffect} by its registry id rather than its name.
+     */
+    public static final StreamCodec<ByteBuf, MobEffect> MOB_EFFECT_STREAM_CODEC = ByteBufCodecs.idMapper(BuiltInRegistries.MOB_EFFECT);
+
+    /**
+     * A stream codec for a list of {@link MobEffect}s referenced by registry id.
+     */
+    public static final StreamCodec<ByteBuf, List<MobEffect>> MOB_EFFECTS_STREAM_CODEC = MOB_EFFECT_STREAM_CODEC.apply(ByteBufCodecs.list());
+
+    private CodecHelpers()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Writes a signed int as a zigzag encoded var int, so that small negative values such as {@code -1}
+     * take a single byte instead of five.
+     *
+     * @param buf   the buffer to write to
+     * @param value the value to write
+     */
+    public static void writeVarInt(ByteBuf buf, int value)
+    {
+        VarInt.write(buf, (value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Reads a signed int written by {@link #writeVarInt(ByteBuf, int)}.
+     *
+     * @param buf the buffer to read from
+     * @return    the value
+     */
+    public static int readVarInt(ByteBuf buf)
+    {
+        final int value = VarInt.read(buf);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Writes a weight quantized to {@link #WEIGHT_SCALE} steps per unit.
+     *
+     * @param buf    the buffer to write to
+     * @param weight the weight to write
+     */
+    public static void writeWeight(ByteBuf buf, double weight)
+    {
+        writeVarInt(buf, (int) Math.round(weight * WEIGHT_SCALE));
+    }
+
+    /**
+     * Reads a weight written by {@link #writeWeight(ByteBuf, double)}.
+     *
+     * @param buf the buffer to read from
+     * @return    the weight
+     */
+    public static double readWeight(ByteBuf buf)
+    {
+        return readVarInt(buf) / WEIGHT_SCALE;
+    }
+
+    /**
+     * Packs up to eight flags into a single byte, the first flag being the lowest bit.
+     *
+     * @param buf   the buffer to write to
+     * @param flags the flags to write
+     */
+    public static void writeFlags(ByteBuf buf, boolean... flags)
+    {
+        int packed = 0;
+        for (int i = 0; i < flags.length; i++)
+        {
+            if (flags[i])
+            {
+                packed |= 1 << i;
+            }
+        }
+        buf.writeByte(packed);
+    }
+
+    /**
+     * Checks a single flag of a byte written by {@link #writeFlags(ByteBuf, boolean...)}.
+     *
+     * @param flags the packed flags
+     * @param index the index of the flag
+     * @return      the flag
+     */
+    public static boolean getFlag(int flags, int index)
+    {
+        return (flags & (1 << index)) != 0;
+    }
+}
@@ -7,6 +7,7 @@ import net.minecraft.util.RandomSource;
 
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -86,6 +87,9 @@ public class MappingHelpers
     /**
      * Returns a random value from a map, using the provided random source.
      * This method is useful for randomly selecting a value from a collection of mapped data.
+     * <p>
+     * Immutable maps are picked from in constant time. Other maps are walked up to the picked value, so
+     * callers picking from the same map repeatedly should pick from {@link #indexValues(Map)} instead.
      *
      * @param map    The map to select from.
      * @param random The random source to use.
@@ -95,6 +99,23 @@ public class MappingHelpers
      */
     public static <K, V> V getRandomValue(Map<K, V> map, RandomSource random)
     {
+        if (map instanceof ImmutableMap<K, V> immutableMap)
+        {
+            return immutableMap.values().asList().get(random.nextInt(map.size()));
+        }
         return Iterators.get(map.values().iterator(), random.nextInt(map.size()));
     }
+
+    /**
+     * Copies the values of a map into an immutable list with random access, to pick values from in constant
+     * time with {@link RandomHelpers#getRandomElement(List, RandomSource)}.
+     *
+     * @param map The map to index.
+     * @param <V> The value type.
+     * @return    The values of the map, in iteration order.
+     */
+    public static <V> List<V> indexValues(Map<?, V> map)
+    {
+        return List.copyOf(map.values());
+    }
 }
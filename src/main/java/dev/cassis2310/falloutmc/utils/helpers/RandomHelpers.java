@@ -1,12 +1,14 @@
 package dev.cassis2310.falloutmc.utils.helpers;
 
 import com.mojang.logging.LogUtils;
-import net.minecraft.core.Holder;
+import dev.cassis2310.falloutmc.utils.TagSnapshots;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import net.minecraft.core.Registry;
 import net.minecraft.tags.TagKey;
 import net.minecraft.util.RandomSource;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
@@ -18,39 +20,167 @@ public class RandomHelpers
      */
     private static final Logger LOGGER = LogUtils.getLogger();
 
+    /**
+     * The index buffer of {@link #uniqueRandomSample(List, int, RandomSource)}, per thread since world
+     * generation samples from several threads at once.
+     */
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[16]);
+
+    /**
+     * The positions swapped by {@link #uniqueRandomIndices(int, int, RandomSource, int[])}, by the index they
+     * now hold, per thread for the same reason.
+     */
+    private static final ThreadLocal<Int2IntOpenHashMap> SWAPPED = ThreadLocal.withInitial(Int2IntOpenHashMap::new);
+
     private RandomHelpers()
     {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
 
     /**
-     * Select N unique elements from a list, without having to shuffle the whole list.
-     * This involves moving the selected elements to the end of the list. Note: this method will mutate the passed in list!
-     * From <a href="https://stackoverflow.com/questions/4702036/take-n-random-elements-from-a-liste">Stack Overflow</a>
+     * Select N unique elements from a list, without shuffling or otherwise modifying it, so it is safe to call
+     * on shared lists such as loot pools. The elements are returned in random order.
      *
      * @param list the list to sample from.
      * @param n    the number of elements to select.
      * @param r    a random source.
      * @param <T>  the type of the list.
-     * @return     a list of n unique elements selected from the original list.
+     * @return     a new list of n unique elements selected from the original list.
      * @throws     IllegalArgumentException if n is greater than the list size.
      */
     public static <T> List<T> uniqueRandomSample(List<T> list, int n, RandomSource r)
     {
         final int length = list.size();
+        final int[] indices = SCRATCH.get();
+        final int[] scratch = uniqueRandomIndices(length, n, r, indices.length >= n ? indices : grow(n));
+        final List<T> sample = new ArrayList<>(n);
+        for (int i = 0; i < n; i++)
+        {
+            sample.add(list.get(scratch[i]));
+        }
+        return sample;
+    }
+
+    /**
+     * Select N unique indices below a length, with a sparse partial Fisher-Yates shuffle. Only the first N
+     * positions are shuffled, and the positions they swap with are kept in a map rather than an array of every
+     * index, so the cost is linear in N whatever the length. The indices are in random order.
+     *
+     * @param length  the number of indices to select from.
+     * @param n       the number of indices to select.
+     * @param r       a random source.
+     * @param scratch a buffer of at least {@code n} elements, which the indices are written to.
+     * @return        the scratch buffer, holding the selected indices in its first n elements.
+     * @throws        IllegalArgumentException if n is greater than the length, or the buffer is too small.
+     */
+    public static int[] uniqueRandomIndices(int length, int n, RandomSource r, int[] scratch)
+    {
         if (length < n)
         {
             throw new IllegalArgumentException("Cannot select n=" + n + " unique elements from a list of size " + length);
         }
-        for (int i = length - 1; i >= length - n; i--)
+        if (scratch.length < n)
+        {
+            throw new IllegalArgumentException("Scratch buffer of size " + scratch.length + " is smaller than " + n);
+        }
+
+        final Int2IntOpenHashMap swapped = SWAPPED.get();
+        swapped.clear();
+        for (int i = 0; i < n; i++)
+        {
+            final int j = i + r.nextInt(length - i);
+            // A position missing from the map was never swapped, so it still holds its own index
+            scratch[i] = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+        }
+        return scratch;
+    }
+
+    /**
+     * Select N elements from a stream of unknown length with reservoir sampling, in a single pass and without
+     * collecting the stream. If it has fewer than N elements, all of them are returned.
+     *
+     * @param elements the elements to sample from.
+     * @param n        the number of elements to select.
+     * @param r        a random source.
+     * @param <T>      the type of the elements.
+     * @return         a new list of at most n elements, each element being equally likely to be selected.
+     */
+    public static <T> List<T> reservoirSample(Iterator<T> elements, int n, RandomSource r)
+    {
+        final List<T> reservoir = new ArrayList<>(n);
+        int seen = 0;
+        while (elements.hasNext())
+        {
+            final T element = elements.next();
+            if (seen < n)
+            {
+                reservoir.add(element);
+            }
+            else
+            {
+                final int j = r.nextInt(seen + 1);
+                if (j < n)
+                {
+                    reservoir.set(j, element);
+                }
+            }
+            seen++;
+        }
+        return reservoir;
+    }
+
+    /**
+     * Select one element from a stream of unknown length with reservoir sampling, without allocating.
+     *
+     * @param elements the elements to sample from.
+     * @param r        a random source.
+     * @param <T>      the type of the elements.
+     * @return         a random element, or an empty Optional if there are none.
+     */
+    public static <T> Optional<T> reservoirSample(Iterator<T> elements, RandomSource r)
+    {
+        T selected = null;
+        int seen = 0;
+        while (elements.hasNext())
+        {
+            final T element = elements.next();
+            if (r.nextInt(++seen) == 0)
+            {
+                selected = element;
+            }
+        }
+        return Optional.ofNullable(selected);
+    }
+
+    /**
+     * Returns a random element of a list, in constant time for lists with random access.
+     *
+     * @param list   the list to select from.
+     * @param random the random source.
+     * @param <T>    the type of the list.
+     * @return       a random element of the list.
+     * @throws       IllegalArgumentException if the list is empty.
+     */
+    public static <T> T getRandomElement(List<T> list, RandomSource random)
+    {
+        if (list.isEmpty())
         {
-            Collections.swap(list, i, r.nextInt(i + 1));
+            throw new IllegalArgumentException("Cannot select an element from an empty list");
         }
-        return list.subList(length - n, length);
+        return list.get(random.nextInt(list.size()));
+    }
+
+    private static int[] grow(int length)
+    {
+        final int[] scratch = new int[Math.max(length, 16)];
+        SCRATCH.set(scratch);
+        return scratch;
     }
 
     /**
      * Returns a random element from the specified Registry and Tag.
+     * The tag is read from a {@link TagSnapshots} snapshot, so repeated calls are an array access.
      *
      * @param registry the Registry to select from
      * @param tag      the Tag to select from
@@ -60,6 +190,6 @@ public class RandomHelpers
      */
     public static <T> Optional<T> getRandomElement(Registry<T> registry, TagKey<T> tag, RandomSource random)
     {
-        return registry.getTag(tag).flatMap(set -> set.getRandomElement(random)).map(Holder::value);
+        return Optional.ofNullable(TagSnapshots.get(registry, tag).pick(random));
     }
 }
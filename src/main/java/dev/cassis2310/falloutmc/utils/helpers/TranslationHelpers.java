@@ -73,4 +73,16 @@ public class TranslationHelpers
     {
         return String.join(".", FalloutMc.MOD_ID, "enum", enumName, anEnum.name()).toLowerCase(Locale.ROOT);
     }
+
+    /**
+     * Returns the translation key of a line of the mod's HUD.
+     *
+     * @param name The name of the line.
+     *
+     * @return The translation key for the HUD line.
+     */
+    public static String getHudTranslationKey(String name)
+    {
+        return String.join(".", FalloutMc.MOD_ID, "hud", name).toLowerCase(Locale.ROOT);
+    }
 }
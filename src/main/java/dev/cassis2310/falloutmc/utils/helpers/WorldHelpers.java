@@ -1,16 +1,14 @@
 package dev.cassis2310.falloutmc.utils.helpers;
 
 import com.mojang.logging.LogUtils;
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import dev.cassis2310.falloutmc.fire.FireSpreader;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.WorldGenRegion;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.GameRules;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.LevelReader;
-import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.Nullable;
 
 import org.slf4j.Logger;
@@ -52,6 +50,8 @@ public class WorldHelpers
     /**
      * Attempts to spread fire in a random direction around a specified position in the world.
      * The fire spread is controlled by game rules and can be influenced by neighboring blocks.
+     * <p>
+     * The attempt is queued on the level's {@link FireSpreader}, which processes it in a batch on the level tick.
      *
      * @param level  The server-level where the fire spread should occur.
      * @param pos    The starting position for fire spreading.
@@ -62,48 +62,10 @@ public class WorldHelpers
     {
         if (level.getGameRules().getBoolean(GameRules.RULE_DOFIRETICK))
         {
-            for (int i = 0; i < radius; i++)
-            {
-                pos = pos.relative(Direction.Plane.HORIZONTAL.getRandomDirection(random));
-                if (level.getRandom().nextFloat() < 0.25F)
-                {
-                    pos = pos.above();
-                }
-                final BlockState state = level.getBlockState(pos);
-                if (!state.isAir())
-                {
-                    return;
-                }
-                if (hasFlammableNeighbours(level, pos))
-                {
-                    level.setBlockAndUpdate(pos, Blocks.FIRE.defaultBlockState());
-                    return;
-                }
-            }
+            level.getData(FalloutMcAttachments.FIRE_SPREADER).enqueue(pos, random, radius);
         }
     }
 
-    /**
-     * Checks if there are any flammable blocks adjacent to the specified position.
-     *
-     * @param level The level reader to check the blocks.
-     * @param pos   The position to check for flammable neighbors.
-     * @return      {@code true} if there are flammable blocks adjacent to the position, otherwise {@code false}.
-     */
-    private static boolean hasFlammableNeighbours(LevelReader level, BlockPos pos)
-    {
-        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-        for (Direction direction : DirectionHelpers.DIRECTIONS)
-        {
-            mutable.setWithOffset(pos, direction);
-            if (level.getBlockState(mutable).isFlammable(level, mutable, direction.getOpposite()))
-            {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * Seeds large features to avoid clustering issues during world generation.
      * This method ensures that features with a chance placement are distributed more evenly across the world.
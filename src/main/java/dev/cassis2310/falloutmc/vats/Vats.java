@@ -0,0 +1,164 @@
+package dev.cassis2310.falloutmc.vats;
+
+import dev.cassis2310.falloutmc.attachments.FalloutMcAttachments;
+import dev.cassis2310.falloutmc.network.VatsTargetsPayload;
+import dev.cassis2310.falloutmc.survival.SurvivalStats;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.InteractionHand;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.List;
+
+/**
+ * The Vault-Tec Assisted Targeting System: a player spends action points on attacks with a computed chance
+ * to hit.
+ *
+ * <p>Activating VATS makes a single spatial query for the living entities within the player's entity
+ * interaction range, which held weapons may extend. In one pass over them, targets outside the view cone or
+ * out of reach are discarded before any ray cast, and a hit chance is computed for the rest from their
+ * distance and size. The chances and line of sight results are kept in the player's {@link VatsSession}
+ * until it expires, so a crowded camp costs one query and one ray cast per visible target per activation,
+ * however many attacks follow.</p>
+ *
+ * <p>Attacks are melee attacks: they need the target to still be in reach, and the weapon to be fully
+ * charged, see {@link net.minecraft.world.entity.player.Player#getAttackStrengthScale(float)}.</p>
+ */
+public class Vats
+{
+    /** The action points spent by an attack. */
+    public static final float ATTACK_COST = 25;
+    /** The ticks a session lasts after its activation. */
+    public static final int SESSION_TICKS = 10 * 20;
+
+    private static final float MIN_CHANCE = 0.05F, MAX_CHANCE = 0.95F;
+    // The cosine of half the view cone angle, about 60 degrees each side
+    private static final double VIEW_CONE = 0.5;
+    // The size of a player, which neither raises nor lowers the hit chance
+    private static final double REFERENCE_SIZE = 0.6 * 1.8;
+
+    private Vats()
+    {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Starts a targeting session, and sends the player its targets, most likely to be hit first.
+     *
+     * @param player the player
+     */
+    public static void activate(ServerPlayer player)
+    {
+        final VatsSession session = player.getData(FalloutMcAttachments.VATS_SESSION);
+        session.start(player.level().getGameTime() + SESSION_TICKS);
+
+        final Vec3 eyes = player.getEyePosition();
+        final Vec3 look = player.getLookAngle();
+        final double reach = player.entityInteractionRange();
+        final AABB area = player.getBoundingBox().inflate(reach);
+        final List<LivingEntity> candidates = player.level().getEntitiesOfClass(LivingEntity.class, area,
+                entity -> entity != player && entity.isAlive() && !entity.isSpectator() && entity.isPickable());
+
+        final int[] ids = new int[candidates.size()];
+        final float[] chances = new float[candidates.size()];
+        int count = 0;
+        for (LivingEntity target : candidates)
+        {
+            final Vec3 offset = target.getBoundingBox().getCenter().subtract(eyes);
+            final double distance = offset.length();
+            if (offset.dot(look) < VIEW_CONE * distance || !player.canInteractWithEntity(target, 0) || !session.hasLineOfSight(player, target))
+            {
+                continue;
+            }
+
+            final float chance = hitChance(target, distance, reach);
+            session.setHitChance(target.getId(), chance);
+            ids[count] = target.getId();
+            chances[count++] = chance;
+        }
+
+        final int[] order = new int[count];
+        for (int i = 0; i < count; i++)
+        {
+            order[i] = i;
+        }
+        IntArrays.quickSort(order, (a, b) -> Float.compare(chances[b], chances[a]));
+
+        final int[] sortedIds = new int[count];
+        final float[] sortedChances = new float[count];
+        for (int i = 0; i < count; i++)
+        {
+            sortedIds[i] = ids[order[i]];
+            sortedChances[i] = chances[order[i]];
+        }
+        PacketDistributor.sendToPlayer(player, new VatsTargetsPayload(sortedIds, sortedChances));
+    }
+
+    /**
+     * Attacks a target of the running session, if it is in reach, the weapon is charged and the player has
+     * the action points for it.
+     *
+     * @param player   the player
+     * @param entityId the id of the target
+     */
+    public static void attack(ServerPlayer player, int entityId)
+    {
+        final VatsSession session = player.getData(FalloutMcAttachments.VATS_SESSION);
+        final float chance = session.getHitChance(entityId);
+        if (!session.isActive(player.level().getGameTime()) || chance < 0)
+        {
+            return;
+        }
+        if (!(player.level().getEntity(entityId) instanceof LivingEntity target) || !target.isAlive()
+                || !player.canInteractWithEntity(target, 0) || !session.hasLineOfSight(player, target))
+        {
+            return;
+        }
+        if (player.getAttackStrengthScale(0.5F) < 1)
+        {
+            return;
+        }
+
+        final SurvivalStats stats = player.getData(FalloutMcAttachments.SURVIVAL_STATS);
+        if (stats.getActionPoints() < ATTACK_COST)
+        {
+            return;
+        }
+        stats.restoreActionPoints(-ATTACK_COST);
+
+        if (player.getRandom().nextFloat() < chance)
+        {
+            player.attack(target);
+        }
+        else
+        {
+            // A miss still spends the swing, as player.attack() does on a hit
+            player.resetAttackStrengthTicker();
+        }
+        player.swing(InteractionHand.MAIN_HAND, true);
+    }
+
+    /**
+     * Ends the session of a player, such as when they leave the level.
+     *
+     * @param player the player
+     */
+    public static void close(ServerPlayer player)
+    {
+        if (player.hasData(FalloutMcAttachments.VATS_SESSION))
+        {
+            player.getData(FalloutMcAttachments.VATS_SESSION).close();
+        }
+    }
+
+    private static float hitChance(LivingEntity target, double distance, double reach)
+    {
+        final double size = Mth.clamp(Math.sqrt(target.getBbWidth() * target.getBbHeight() / REFERENCE_SIZE), 0.5, 1.2);
+        final double chance = MAX_CHANCE * (1 - 0.5 * Math.min(distance / reach, 1)) * size;
+        return (float) Mth.clamp(chance, MIN_CHANCE, MAX_CHANCE);
+    }
+}
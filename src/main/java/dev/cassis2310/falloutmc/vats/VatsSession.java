@@ -0,0 +1,78 @@
+package dev.cassis2310.falloutmc.vats;
+
+import it.unimi.dsi.fastutil.ints.Int2ByteMap;
+import it.unimi.dsi.fastutil.ints.Int2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2FloatMap;
+import it.unimi.dsi.fastutil.ints.Int2FloatOpenHashMap;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * The targeting session of a player in VATS, from its activation until it expires.
+ *
+ * <p>The session remembers the hit chance of every target found on activation, and the line of sight
+ * checks done so far, so that attacks during the session cost no further ray casts.</p>
+ */
+public class VatsSession
+{
+    private static final byte UNKNOWN = 0, VISIBLE = 1, HIDDEN = 2;
+
+    private final Int2FloatMap hitChances = new Int2FloatOpenHashMap();
+    private final Int2ByteMap lineOfSight = new Int2ByteOpenHashMap();
+    private long expiresAt = Long.MIN_VALUE;
+
+    void start(long expiresAt)
+    {
+        this.hitChances.clear();
+        this.lineOfSight.clear();
+        this.expiresAt = expiresAt;
+    }
+
+    void close()
+    {
+        hitChances.clear();
+        lineOfSight.clear();
+        expiresAt = Long.MIN_VALUE;
+    }
+
+    /**
+     * @param gameTime the current game time
+     * @return whether the session is still running
+     */
+    public boolean isActive(long gameTime)
+    {
+        return gameTime < expiresAt;
+    }
+
+    void setHitChance(int entityId, float chance)
+    {
+        hitChances.put(entityId, chance);
+    }
+
+    /**
+     * @param entityId the id of a target
+     * @return the hit chance of the target, or a negative number if it is not a target of the session
+     */
+    public float getHitChance(int entityId)
+    {
+        return hitChances.getOrDefault(entityId, -1);
+    }
+
+    /**
+     * Returns whether a player can see a target, ray casting only the first time it is asked for the target.
+     *
+     * @param player the player
+     * @param target the target
+     * @return whether the target is in the player's line of sight
+     */
+    boolean hasLineOfSight(Player player, LivingEntity target)
+    {
+        byte visible = lineOfSight.get(target.getId());
+        if (visible == UNKNOWN)
+        {
+            visible = player.hasLineOfSight(target) ? VISIBLE : HIDDEN;
+            lineOfSight.put(target.getId(), visible);
+        }
+        return visible == VISIBLE;
+    }
+}